@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks entry point.
+ * <p>
+ * Accepts the standard JMH command line options and always enables the {@link GCProfiler} so that the allocation rate
+ * is reported next to the throughput and latency results.
+ *
+ * <pre>{@code
+ * java -jar target/benchmarks.jar RepeatBenchmark -p times=1,16,256
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * Utility class ctor.
+   */
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * Runs benchmarks.
+   *
+   * @param args the JMH command line options
+   * @throws Exception if benchmarks run failed
+   */
+  public static void main(final String[] args) throws Exception {
+    final Options options = new OptionsBuilder()
+      .parent(new CommandLineOptions(args))
+      .addProfiler(GCProfiler.class)
+      .build();
+    new Runner(options).run();
+  }
+}
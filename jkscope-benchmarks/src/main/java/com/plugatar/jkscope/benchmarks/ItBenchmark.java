@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.it;
+
+/**
+ * {@code it} methods benchmark. Each JKScope call is compared with the equivalent hand-written code.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ItBenchmark {
+  private String value = "value";
+  private String arg1 = "arg1";
+  private String arg2 = "arg2";
+  private String arg3 = "arg3";
+  private String arg4 = "arg4";
+
+  @Benchmark
+  public String plain1(final Blackhole bh) {
+    final String v = this.value;
+    bh.consume(v);
+    return v;
+  }
+
+  @Benchmark
+  public String it1(final Blackhole bh) {
+    return it(this.value, v -> bh.consume(v));
+  }
+
+  @Benchmark
+  public String plain3(final Blackhole bh) {
+    final String v = this.value;
+    bh.consume(v);
+    bh.consume(this.arg1);
+    bh.consume(this.arg2);
+    return v;
+  }
+
+  @Benchmark
+  public String it3(final Blackhole bh) {
+    return it(this.value, this.arg1, this.arg2, (v, a1, a2) -> {
+      bh.consume(v);
+      bh.consume(a1);
+      bh.consume(a2);
+    });
+  }
+
+  @Benchmark
+  public String plain5(final Blackhole bh) {
+    final String v = this.value;
+    bh.consume(v);
+    bh.consume(this.arg1);
+    bh.consume(this.arg2);
+    bh.consume(this.arg3);
+    bh.consume(this.arg4);
+    return v;
+  }
+
+  @Benchmark
+  public String it5(final Blackhole bh) {
+    return it(this.value, this.arg1, this.arg2, this.arg3, this.arg4, (v, a1, a2, a3, a4) -> {
+      bh.consume(v);
+      bh.consume(a1);
+      bh.consume(a2);
+      bh.consume(a3);
+      bh.consume(a4);
+    });
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.iterate1;
+import static com.plugatar.jkscope.JKScope.iterate3;
+
+/**
+ * {@code iterate} methods benchmark. Each JKScope call is compared with the equivalent plain loop over
+ * {@link ArrayDeque}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IterateBenchmark {
+  @Param({"16", "256", "4096"})
+  private int size;
+  private Node head;
+
+  @Setup
+  public void setup() {
+    Node node = null;
+    for (int idx = this.size - 1; idx >= 0; idx--) {
+      node = new Node(idx, node);
+    }
+    this.head = node;
+  }
+
+  @Benchmark
+  public void plainDeque1(final Blackhole bh) {
+    final Deque<Node> deque = new ArrayDeque<>();
+    deque.push(this.head);
+    while (!deque.isEmpty()) {
+      final Node node = deque.poll();
+      bh.consume(node.value);
+      if (node.next != null) {
+        deque.push(node.next);
+      }
+    }
+  }
+
+  @Benchmark
+  public void iterate1Chain(final Blackhole bh) {
+    iterate1(this.head, (node, nextValues) -> {
+      bh.consume(node.value);
+      if (node.next != null) {
+        nextValues.push(node.next);
+      }
+    });
+  }
+
+  @Benchmark
+  public void plainDeque3(final Blackhole bh) {
+    final Deque<Node> nodes = new ArrayDeque<>();
+    final Deque<Integer> depths = new ArrayDeque<>();
+    final Deque<Node> parents = new ArrayDeque<>();
+    nodes.push(this.head);
+    depths.push(0);
+    parents.push(this.head);
+    while (!nodes.isEmpty()) {
+      final Node node = nodes.poll();
+      final int depth = depths.poll();
+      bh.consume(parents.poll());
+      bh.consume(node.value + depth);
+      if (node.next != null) {
+        nodes.push(node.next);
+        depths.push(depth + 1);
+        parents.push(node);
+      }
+    }
+  }
+
+  @Benchmark
+  public void iterate3Chain(final Blackhole bh) {
+    iterate3(this.head, 0, this.head, (node, depth, parent, nextValues) -> {
+      bh.consume(parent);
+      bh.consume(node.value + depth);
+      if (node.next != null) {
+        nextValues.push(node.next, depth + 1, node);
+      }
+    });
+  }
+
+  static final class Node {
+    final int value;
+    final Node next;
+
+    Node(final int value,
+         final Node next) {
+      this.value = value;
+      this.next = next;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.iterateOver;
+
+/**
+ * {@code iterateOver} methods benchmark. Each JKScope call is compared with the equivalent plain loop.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IterateOverBenchmark {
+  @Param({"16", "256", "4096"})
+  private int size;
+  private String[] array;
+  private List<String> list;
+  private Map<String, String> map;
+
+  @Setup
+  public void setup() {
+    this.array = new String[this.size];
+    this.list = new ArrayList<>(this.size);
+    this.map = new HashMap<>();
+    for (int idx = 0; idx < this.size; idx++) {
+      final String value = "value" + idx;
+      this.array[idx] = value;
+      this.list.add(value);
+      this.map.put(value, value);
+    }
+  }
+
+  @Benchmark
+  public void plainArray(final Blackhole bh) {
+    for (final String element : this.array) {
+      bh.consume(element);
+    }
+  }
+
+  @Benchmark
+  public void iterateOverArray(final Blackhole bh) {
+    iterateOver(this.array, element -> {
+      bh.consume(element);
+    });
+  }
+
+  @Benchmark
+  public void plainArrayIdx(final Blackhole bh) {
+    final String[] arr = this.array;
+    for (int idx = 0; idx < arr.length; idx++) {
+      bh.consume(idx);
+      bh.consume(arr[idx]);
+    }
+  }
+
+  @Benchmark
+  public void iterateOverArrayIdx(final Blackhole bh) {
+    iterateOver(this.array, (idx, element) -> {
+      bh.consume(idx);
+      bh.consume(element);
+    });
+  }
+
+  @Benchmark
+  public void plainIterable(final Blackhole bh) {
+    for (final String element : this.list) {
+      bh.consume(element);
+    }
+  }
+
+  @Benchmark
+  public void iterateOverIterable(final Blackhole bh) {
+    iterateOver(this.list, element -> {
+      bh.consume(element);
+    });
+  }
+
+  @Benchmark
+  public void plainMap(final Blackhole bh) {
+    for (final Map.Entry<String, String> entry : this.map.entrySet()) {
+      bh.consume(entry.getKey());
+      bh.consume(entry.getValue());
+    }
+  }
+
+  @Benchmark
+  public void iterateOverMap(final Blackhole bh) {
+    iterateOver(this.map, (key, value) -> {
+      bh.consume(key);
+      bh.consume(value);
+    });
+  }
+}
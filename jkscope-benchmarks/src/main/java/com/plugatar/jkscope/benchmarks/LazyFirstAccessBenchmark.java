@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import com.plugatar.jkscope.Lazy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.lazy;
+
+/**
+ * {@link Lazy#get()} first access benchmark. Every iteration creates a new uninitialized {@link Lazy} instance and all
+ * group threads call {@link Lazy#get()} once at the same time. The number of threads can be changed with the
+ * {@code -tg} option.
+ * <p>
+ * Results for {@link Lazy.ThreadSafetyMode#NONE} mode are given for reference only, this mode is not designed for
+ * concurrent initialization.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 100)
+@Measurement(iterations = 1000)
+@Fork(2)
+@State(Scope.Group)
+public class LazyFirstAccessBenchmark {
+  @Param({"SYNCHRONIZED", "PUBLICATION", "NONE"})
+  private Lazy.ThreadSafetyMode mode;
+  @Param({"0", "1000"})
+  private long initTokens;
+  private Lazy<Object> lazy;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    final long tokens = this.initTokens;
+    this.lazy = lazy(this.mode, () -> {
+      Blackhole.consumeCPU(tokens);
+      return new Object();
+    });
+  }
+
+  @Benchmark
+  @Group("firstAccess")
+  @GroupThreads(8)
+  public Object get() {
+    return this.lazy.get();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import com.plugatar.jkscope.Lazy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.lazy;
+
+/**
+ * {@link Lazy#get()} steady-state benchmark. All threads read an already initialized shared {@link Lazy} instance.
+ * The number of threads can be changed with the {@code -t} option.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LazyReadBenchmark {
+  @Param({"SYNCHRONIZED", "PUBLICATION", "NONE"})
+  private Lazy.ThreadSafetyMode mode;
+  private Lazy<String> lazy;
+  private String value;
+
+  @Setup
+  public void setup() {
+    this.value = "value";
+    this.lazy = lazy(this.mode, () -> "value");
+    this.lazy.get();
+  }
+
+  @Benchmark
+  public String plainField() {
+    return this.value;
+  }
+
+  @Benchmark
+  public String lazyGet() {
+    return this.lazy.get();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import com.plugatar.jkscope.Lazy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.lazy;
+
+/**
+ * {@link com.plugatar.jkscope.JKScope#lazy(Object, com.plugatar.jkscope.function.ThSupplier)} benchmark. Every
+ * iteration creates a set of uninitialized {@link Lazy} instances that either share one external monitor or use their
+ * own monitors, then group threads initialize disjoint subsets of them. Both variants use external monitors, so they
+ * measure the same implementation on every JDK. The number of threads can be changed with the {@code -tg} option.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 100)
+@Measurement(iterations = 1000)
+@Fork(2)
+@State(Scope.Group)
+public class LazySharedLockBenchmark {
+  @Param({"SHARED", "OWN"})
+  private String lock;
+  @Param({"64"})
+  private int count;
+  @Param({"100"})
+  private long initTokens;
+  private Lazy<Object>[] lazies;
+
+  @Setup(Level.Iteration)
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    final long tokens = this.initTokens;
+    final Object sharedLock = new Object();
+    this.lazies = new Lazy[this.count];
+    for (int idx = 0; idx < this.count; idx++) {
+      this.lazies[idx] = "SHARED".equals(this.lock)
+        ? lazy(sharedLock, () -> initValue(tokens))
+        : lazy(new Object(), () -> initValue(tokens));
+    }
+  }
+
+  @Benchmark
+  @Group("init")
+  @GroupThreads(8)
+  public void get(final ThreadParams threadParams,
+                  final Blackhole bh) {
+    final Lazy<Object>[] arr = this.lazies;
+    final int step = threadParams.getGroupThreadCount();
+    for (int idx = threadParams.getGroupThreadIndex(); idx < arr.length; idx += step) {
+      bh.consume(arr[idx].get());
+    }
+  }
+
+  private static Object initValue(final long tokens) {
+    Blackhole.consumeCPU(tokens);
+    return new Object();
+  }
+}
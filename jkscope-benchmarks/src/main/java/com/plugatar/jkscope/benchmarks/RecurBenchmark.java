@@ -0,0 +1,268 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import com.plugatar.jkscope.JKScope.RecurJoin;
+import com.plugatar.jkscope.JKScope.Trampoline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.recur1;
+import static com.plugatar.jkscope.JKScope.recurInt;
+import static com.plugatar.jkscope.JKScope.recurParallel1;
+import static com.plugatar.jkscope.JKScope.trampoline1;
+
+/**
+ * {@code recur} methods benchmark. Each JKScope call is compared with the equivalent hand-written recursion. Linked
+ * list walks, binary tree walks and Fibonacci numbers are measured.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RecurBenchmark {
+  @Param({"16", "256", "1024"})
+  private int size;
+  private Node head;
+  private Tree root;
+
+  @Setup
+  public void setup() {
+    Node node = null;
+    for (int idx = this.size - 1; idx >= 0; idx--) {
+      node = new Node(idx, node);
+    }
+    this.head = node;
+    this.root = tree(0, this.size);
+  }
+
+  @Benchmark
+  public void plainConsumer(final Blackhole bh) {
+    walk(this.head, bh);
+  }
+
+  @Benchmark
+  public void recur1Consumer(final Blackhole bh) {
+    recur1(this.head, (node, self) -> {
+      bh.consume(node.value);
+      if (node.next != null) {
+        self.accept(node.next);
+      }
+    });
+  }
+
+  @Benchmark
+  public void recur1ConsumerDepth(final Blackhole bh) {
+    recur1(this.head, (depth, node, self) -> {
+      bh.consume(depth.current());
+      bh.consume(node.value);
+      if (node.next != null) {
+        self.accept(node.next);
+      }
+    });
+  }
+
+  @Benchmark
+  public int plainFunction() {
+    return sum(this.head);
+  }
+
+  @Benchmark
+  public int recur1Function() {
+    return recur1(this.head, (node, self) -> {
+      if (node.next == null) {
+        return node.value;
+      }
+      return node.value + self.apply(node.next);
+    });
+  }
+
+  @Benchmark
+  public void trampoline1Consumer(final Blackhole bh) {
+    trampoline1(this.head, (node, self) -> {
+      bh.consume(node.value);
+      if (node.next != null) {
+        self.accept(node.next);
+      }
+    });
+  }
+
+  @Benchmark
+  public int trampoline1Function() {
+    return trampoline1(this.head, (node, self) -> {
+      if (node.next == null) {
+        return Trampoline.done(node.value);
+      }
+      return self.apply(node.next).map(nextSum -> node.value + nextSum);
+    });
+  }
+
+  @Benchmark
+  public int plainTreeSum() {
+    return treeSum(this.root);
+  }
+
+  @Benchmark
+  public int recur1TreeSum() {
+    return recur1(this.root, (tree, self) -> {
+      int sum = tree.value;
+      if (tree.left != null) {
+        sum += self.apply(tree.left);
+      }
+      if (tree.right != null) {
+        sum += self.apply(tree.right);
+      }
+      return sum;
+    });
+  }
+
+  @Benchmark
+  public int recurParallel1TreeSum() {
+    return recurParallel1(this.root, 4, (depth, tree, self) -> {
+      final RecurJoin<Integer> left = tree.left == null ? null : self.fork(tree.left);
+      int sum = tree.value;
+      if (tree.right != null) {
+        sum += self.apply(tree.right);
+      }
+      return left == null ? sum : sum + left.join();
+    });
+  }
+
+  @Benchmark
+  public void plainTreeWalk(final Blackhole bh) {
+    treeWalk(this.root, bh);
+  }
+
+  @Benchmark
+  public void recur1TreeWalk(final Blackhole bh) {
+    recur1(this.root, (tree, self) -> {
+      bh.consume(tree.value);
+      if (tree.left != null) {
+        self.accept(tree.left);
+      }
+      if (tree.right != null) {
+        self.accept(tree.right);
+      }
+    });
+  }
+
+  @Benchmark
+  public int plainFibonacci(final FibonacciState state) {
+    return fibonacci(state.n);
+  }
+
+  @Benchmark
+  public int recur1Fibonacci(final FibonacciState state) {
+    return recur1(state.n, (n, self) -> n < 2 ? n : self.apply(n - 1) + self.apply(n - 2));
+  }
+
+  @Benchmark
+  public int recurIntFibonacci(final FibonacciState state) {
+    return recurInt(state.n, (n, self) -> n < 2 ? n : self.applyAsInt(n - 1) + self.applyAsInt(n - 2));
+  }
+
+  private static void walk(final Node node,
+                           final Blackhole bh) {
+    bh.consume(node.value);
+    if (node.next != null) {
+      walk(node.next, bh);
+    }
+  }
+
+  private static int sum(final Node node) {
+    return node.next == null ? node.value : node.value + sum(node.next);
+  }
+
+  private static int treeSum(final Tree tree) {
+    int sum = tree.value;
+    if (tree.left != null) {
+      sum += treeSum(tree.left);
+    }
+    if (tree.right != null) {
+      sum += treeSum(tree.right);
+    }
+    return sum;
+  }
+
+  private static void treeWalk(final Tree tree,
+                               final Blackhole bh) {
+    bh.consume(tree.value);
+    if (tree.left != null) {
+      treeWalk(tree.left, bh);
+    }
+    if (tree.right != null) {
+      treeWalk(tree.right, bh);
+    }
+  }
+
+  private static int fibonacci(final int n) {
+    return n < 2 ? n : fibonacci(n - 1) + fibonacci(n - 2);
+  }
+
+  private static Tree tree(final int from,
+                           final int to) {
+    if (from >= to) {
+      return null;
+    }
+    final int mid = (from + to) >>> 1;
+    return new Tree(mid, tree(from, mid), tree(mid + 1, to));
+  }
+
+  @State(Scope.Thread)
+  public static class FibonacciState {
+    @Param({"10", "20"})
+    int n;
+  }
+
+  static final class Tree {
+    final int value;
+    final Tree left;
+    final Tree right;
+
+    Tree(final int value,
+         final Tree left,
+         final Tree right) {
+      this.value = value;
+      this.left = left;
+      this.right = right;
+    }
+  }
+
+  static final class Node {
+    final int value;
+    final Node next;
+
+    Node(final int value,
+         final Node next) {
+      this.value = value;
+      this.next = next;
+    }
+  }
+}
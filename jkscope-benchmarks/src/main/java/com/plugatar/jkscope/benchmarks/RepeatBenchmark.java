@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.repeat;
+import static com.plugatar.jkscope.JKScope.repeat1;
+import static com.plugatar.jkscope.JKScope.repeat3;
+
+/**
+ * {@code repeat} methods benchmark. Each JKScope call is compared with the equivalent plain loop.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RepeatBenchmark {
+  @Param({"1", "16", "256"})
+  private int times;
+  private String value1 = "value1";
+  private String value2 = "value2";
+  private String value3 = "value3";
+
+  @Benchmark
+  public void plainLoop(final Blackhole bh) {
+    for (int idx = 0; idx < this.times; idx++) {
+      bh.consume(idx);
+    }
+  }
+
+  @Benchmark
+  public void repeatIdx(final Blackhole bh) {
+    repeat(this.times, idx -> {
+      bh.consume(idx);
+    });
+  }
+
+  @Benchmark
+  public void plainLoop1Value(final Blackhole bh) {
+    final String v = this.value1;
+    for (int idx = 0; idx < this.times; idx++) {
+      bh.consume(v);
+    }
+  }
+
+  @Benchmark
+  public void repeat1Value(final Blackhole bh) {
+    repeat1(this.times, this.value1, v -> {
+      bh.consume(v);
+    });
+  }
+
+  @Benchmark
+  public void plainLoop3Values(final Blackhole bh) {
+    final String v1 = this.value1;
+    final String v2 = this.value2;
+    final String v3 = this.value3;
+    for (int idx = 0; idx < this.times; idx++) {
+      bh.consume(v1);
+      bh.consume(v2);
+      bh.consume(v3);
+    }
+  }
+
+  @Benchmark
+  public void repeat3Values(final Blackhole bh) {
+    repeat3(this.times, this.value1, this.value2, this.value3, (v1, v2, v3) -> {
+      bh.consume(v1);
+      bh.consume(v2);
+      bh.consume(v3);
+    });
+  }
+
+  @Benchmark
+  public int[] plainLoop3Acc() {
+    final int[] acc = new int[1];
+    final String v1 = this.value1;
+    final String v2 = this.value2;
+    final String v3 = this.value3;
+    for (int idx = 0; idx < this.times; idx++) {
+      acc[0] += v1.length() + v2.length() + v3.length();
+    }
+    return acc;
+  }
+
+  @Benchmark
+  public int[] repeat3Acc() {
+    return repeat3(this.times, this.value1, this.value2, this.value3, new int[1], (v1, v2, v3, acc) -> {
+      acc[0] += v1.length() + v2.length() + v3.length();
+    });
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.use;
+
+/**
+ * {@code use} methods benchmark. Each JKScope call is compared with the equivalent try-with-resources statement.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class UseBenchmark {
+  private Resource resource1 = new Resource();
+  private Resource resource2 = new Resource();
+  private Resource resource3 = new Resource();
+
+  @Benchmark
+  public void tryWithResources1(final Blackhole bh) {
+    try (final Resource r = this.resource1) {
+      bh.consume(r);
+    }
+  }
+
+  @Benchmark
+  public void use1(final Blackhole bh) {
+    use(this.resource1, r -> {
+      bh.consume(r);
+    });
+  }
+
+  @Benchmark
+  public void tryWithResources3(final Blackhole bh) {
+    try (final Resource r1 = this.resource1;
+         final Resource r2 = this.resource2;
+         final Resource r3 = this.resource3) {
+      bh.consume(r1);
+      bh.consume(r2);
+      bh.consume(r3);
+    }
+  }
+
+  @Benchmark
+  public void use3(final Blackhole bh) {
+    use(this.resource1, this.resource2, this.resource3, (r1, r2, r3) -> {
+      bh.consume(r1);
+      bh.consume(r2);
+      bh.consume(r3);
+    });
+  }
+
+  @Benchmark
+  public void useResourceDeque(final Blackhole bh) {
+    use(resources -> {
+      bh.consume(resources.push(this.resource1));
+      bh.consume(resources.push(this.resource2));
+      bh.consume(resources.push(this.resource3));
+    });
+  }
+
+  public static class Resource implements AutoCloseable {
+    private int closed = 0;
+
+    @Override
+    public void close() {
+      this.closed++;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.with;
+
+/**
+ * {@code with} methods benchmark. Each JKScope call is compared with the equivalent hand-written code.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class WithBenchmark {
+  private String value1 = "value1";
+  private String value2 = "value2";
+  private String value3 = "value3";
+  private String value4 = "value4";
+  private String value5 = "value5";
+
+  @Benchmark
+  public void plain1(final Blackhole bh) {
+    bh.consume(this.value1);
+  }
+
+  @Benchmark
+  public void with1(final Blackhole bh) {
+    with(this.value1, v -> bh.consume(v));
+  }
+
+  @Benchmark
+  public void plain3(final Blackhole bh) {
+    bh.consume(this.value1);
+    bh.consume(this.value2);
+    bh.consume(this.value3);
+  }
+
+  @Benchmark
+  public void with3(final Blackhole bh) {
+    with(this.value1, this.value2, this.value3, (v1, v2, v3) -> {
+      bh.consume(v1);
+      bh.consume(v2);
+      bh.consume(v3);
+    });
+  }
+
+  @Benchmark
+  public void plain5(final Blackhole bh) {
+    bh.consume(this.value1);
+    bh.consume(this.value2);
+    bh.consume(this.value3);
+    bh.consume(this.value4);
+    bh.consume(this.value5);
+  }
+
+  @Benchmark
+  public void with5(final Blackhole bh) {
+    with(this.value1, this.value2, this.value3, this.value4, this.value5, (v1, v2, v3, v4, v5) -> {
+      bh.consume(v1);
+      bh.consume(v2);
+      bh.consume(v3);
+      bh.consume(v4);
+      bh.consume(v5);
+    });
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a static factory method whose result should be held by a generated holder class. For each top-level class
+ * with annotated methods {@link LazyStaticProcessor} generates the {@code <ClassName>Lazy} class in the same package
+ * with a static accessor for each annotated method. The accessor calls the factory method once on the first access
+ * and returns the same value afterwards, the value is held in a static final field of a nested holder class, so reads
+ * are free after the holder class initialization.
+ *
+ * <pre>{@code
+ * public final class Clients {
+ *
+ *   @LazyStatic
+ *   static HttpClient httpClient() {
+ *     //...
+ *   }
+ * }
+ *
+ * HttpClient client = ClientsLazy.httpClient();
+ * }</pre>
+ * <p>
+ * The annotated method should be static, non-private, non-void, and should not have parameters or type parameters. As
+ * with {@code JKScope.lazy(ThSupplier)}, an exception thrown by the annotated method is thrown by the accessor call
+ * that triggered it and subsequent calls retry, unless {@link #cacheFailure()} is {@code true}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface LazyStatic {
+
+  /**
+   * Returns the name of the generated accessor method, the name of the annotated method is used by default.
+   *
+   * @return the name of the generated accessor method
+   */
+  String value() default "";
+
+  /**
+   * Returns {@code true} if an exception thrown by the annotated method should be cached and thrown by all subsequent
+   * accessor calls without retrying, and {@code false} if subsequent accessor calls should retry. The default value is
+   * {@code false}.
+   *
+   * @return {@code true} if an exception thrown by the annotated method should be cached
+   */
+  boolean cacheFailure() default false;
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor for {@link LazyStatic} methods.
+ * <p>
+ * Generated accessors match {@code JKScope.lazy(ThSupplier)} semantics: the factory method is called by a single thread
+ * at a time until it succeeds, other threads wait for the value, {@code null} values are supported and exceptions are
+ * thrown unchanged. After a failed call of the factory method by the holder class initialization, the accessor retries
+ * under the holder class lock. If {@link LazyStatic#cacheFailure()} is {@code true}, the exception is cached by the
+ * holder class and thrown by all subsequent accessor calls instead.
+ */
+public class LazyStaticProcessor extends AbstractProcessor {
+  private static final String GENERATED_CLASS_SUFFIX = "Lazy";
+
+  /**
+   * Ctor.
+   */
+  public LazyStaticProcessor() {
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(LazyStatic.class.getCanonicalName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations,
+                         final RoundEnvironment roundEnv) {
+    final Map<TypeElement, List<ExecutableElement>> methodsByClass = new LinkedHashMap<>();
+    for (final Element element : roundEnv.getElementsAnnotatedWith(LazyStatic.class)) {
+      final ExecutableElement method = (ExecutableElement) element;
+      if (this.isValid(method)) {
+        methodsByClass.computeIfAbsent((TypeElement) method.getEnclosingElement(), key -> new ArrayList<>())
+          .add(method);
+      }
+    }
+    for (final Map.Entry<TypeElement, List<ExecutableElement>> entry : methodsByClass.entrySet()) {
+      this.generate(entry.getKey(), entry.getValue());
+    }
+    return true;
+  }
+
+  private boolean isValid(final ExecutableElement method) {
+    final Set<Modifier> modifiers = method.getModifiers();
+    final Element enclosing = method.getEnclosingElement();
+    if (!modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+      return this.error(method, "@LazyStatic method should be static and non-private");
+    }
+    if (!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()) {
+      return this.error(method, "@LazyStatic method should not have parameters or type parameters");
+    }
+    if (method.getReturnType().getKind() == TypeKind.VOID) {
+      return this.error(method, "@LazyStatic method should not be void");
+    }
+    if (enclosing.getKind() != ElementKind.CLASS
+      || ((TypeElement) enclosing).getNestingKind() != NestingKind.TOP_LEVEL) {
+      return this.error(method, "@LazyStatic method should be declared in a top-level class");
+    }
+    return true;
+  }
+
+  private void generate(final TypeElement type,
+                        final List<ExecutableElement> methods) {
+    final String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+    final String className = type.getSimpleName() + GENERATED_CLASS_SUFFIX;
+    final Set<String> accessorNames = new HashSet<>();
+    final Set<String> holderNames = new HashSet<>(Collections.singleton(className));
+    final StringBuilder src = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      src.append("package ").append(packageName).append(";\n\n");
+    }
+    src.append("/**\n")
+      .append(" * Lazy static accessors for {@link ").append(type.getSimpleName()).append("}.\n")
+      .append(" */\n")
+      .append(type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+      .append("final class ").append(className).append(" {\n\n")
+      .append("  private ").append(className).append("() {\n")
+      .append("  }\n");
+    for (final ExecutableElement method : methods) {
+      final String annotationName = method.getAnnotation(LazyStatic.class).value();
+      final String accessorName = annotationName.isEmpty() ? method.getSimpleName().toString() : annotationName;
+      if (!SourceVersion.isIdentifier(accessorName) || SourceVersion.isKeyword(accessorName)) {
+        this.error(method, "@LazyStatic accessor name " + accessorName + " is not a valid identifier");
+        continue;
+      }
+      if (!accessorNames.add(accessorName)) {
+        this.error(method, "@LazyStatic accessor name " + accessorName + " is already used in " + className);
+        continue;
+      }
+      appendAccessor(src, type, method, className, accessorName, holderName(holderNames, accessorName));
+    }
+    src.append("\n")
+      .append("  @SuppressWarnings(\"unchecked\")\n")
+      .append("  private static <E extends Throwable> E sneakyThrow(final Throwable exception) throws E {\n")
+      .append("    throw (E) exception;\n")
+      .append("  }\n")
+      .append("}\n");
+    final String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+    try (final Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+      writer.write(src.toString());
+    } catch (final IOException ex) {
+      this.error(type, "Cannot generate " + qualifiedName + ": " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Returns the capitalized accessor name with the {@code Holder} suffix, followed by a number if this name is already
+   * used, for example by the {@code foo} and {@code Foo} accessors.
+   */
+  private static String holderName(final Set<String> holderNames,
+                                   final String accessorName) {
+    final String baseName = Character.toUpperCase(accessorName.charAt(0)) + accessorName.substring(1) + "Holder";
+    String holderName = baseName;
+    for (int idx = 2; !holderNames.add(holderName); idx++) {
+      holderName = baseName + idx;
+    }
+    return holderName;
+  }
+
+  private static void appendAccessor(final StringBuilder src,
+                                     final TypeElement type,
+                                     final ExecutableElement method,
+                                     final String className,
+                                     final String accessorName,
+                                     final String holderName) {
+    final TypeMirror returnType = method.getReturnType();
+    final boolean cacheFailure = method.getAnnotation(LazyStatic.class).cacheFailure();
+    final String factoryCall = type.getQualifiedName() + "." + method.getSimpleName() + "()";
+    final StringBuilder throwsClause = new StringBuilder();
+    final List<? extends TypeMirror> thrownTypes = method.getThrownTypes();
+    for (int idx = 0; idx < thrownTypes.size(); idx++) {
+      throwsClause.append(idx == 0 ? " throws " : ", ").append(thrownTypes.get(idx));
+    }
+    src.append("\n")
+      .append("  ").append(method.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+      .append("static ").append(returnType).append(" ").append(accessorName).append("()").append(throwsClause)
+      .append(" {\n");
+    if (cacheFailure) {
+      src.append("    if (").append(holderName).append(".FAILURE != null) {\n")
+        .append("      throw ").append(className).append(".<RuntimeException>sneakyThrow(").append(holderName)
+        .append(".FAILURE);\n")
+        .append("    }\n")
+        .append("    return ").append(holderName).append(".VALUE;\n");
+    } else {
+      src.append("    return ").append(holderName).append(".FAILED ? ").append(holderName).append(".retry() : ")
+        .append(holderName).append(".VALUE;\n");
+    }
+    src.append("  }\n")
+      .append("\n")
+      .append("  private static final class ").append(holderName).append(" {\n")
+      .append("    private static final ").append(returnType).append(" VALUE;\n");
+    if (cacheFailure) {
+      src.append("    private static final Throwable FAILURE;\n");
+    } else {
+      src.append("    private static final boolean FAILED;\n")
+        .append("    private static Throwable pendingFailure;\n")
+        .append("    private static Thread failedThread;\n")
+        .append("    private static volatile boolean retried;\n")
+        .append("    private static ").append(returnType).append(" retriedValue;\n");
+    }
+    src.append("\n")
+      .append("    static {\n")
+      .append("      ").append(returnType).append(" value = ").append(defaultValue(returnType)).append(";\n")
+      .append("      Throwable failure = null;\n")
+      .append("      try {\n")
+      .append("        value = ").append(factoryCall).append(";\n")
+      .append("      } catch (final Throwable ex) {\n")
+      .append("        failure = ex;\n")
+      .append("      }\n")
+      .append("      VALUE = value;\n");
+    if (cacheFailure) {
+      src.append("      FAILURE = failure;\n");
+    } else {
+      src.append("      FAILED = failure != null;\n")
+        .append("      pendingFailure = failure;\n")
+        .append("      failedThread = failure == null ? null : Thread.currentThread();\n");
+    }
+    src.append("    }\n");
+    if (!cacheFailure) {
+      src.append("\n")
+        .append("    private static ").append(returnType).append(" retry()").append(throwsClause).append(" {\n")
+        .append("      if (retried) {\n")
+        .append("        return retriedValue;\n")
+        .append("      }\n")
+        .append("      synchronized (").append(holderName).append(".class) {\n")
+        .append("        if (failedThread == Thread.currentThread()) {\n")
+        .append("          final Throwable failure = pendingFailure;\n")
+        .append("          pendingFailure = null;\n")
+        .append("          failedThread = null;\n")
+        .append("          throw ").append(className).append(".<RuntimeException>sneakyThrow(failure);\n")
+        .append("        }\n")
+        .append("        if (!retried) {\n")
+        .append("          retriedValue = ").append(factoryCall).append(";\n")
+        .append("          pendingFailure = null;\n")
+        .append("          failedThread = null;\n")
+        .append("          retried = true;\n")
+        .append("        }\n")
+        .append("        return retriedValue;\n")
+        .append("      }\n")
+        .append("    }\n");
+    }
+    src.append("  }\n");
+  }
+
+  private static String defaultValue(final TypeMirror type) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return "false";
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case CHAR:
+      case FLOAT:
+      case DOUBLE:
+        return "(" + type + ") 0";
+      default:
+        return "null";
+    }
+  }
+
+  private boolean error(final Element element,
+                        final String message) {
+    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    return false;
+  }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.processor;
+
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link LazyStaticProcessor}.
+ */
+final class LazyStaticProcessorTest {
+
+  @Test
+  void generatedAccessorReturnsSameValueAndCallsMethodOnce() throws Exception {
+    final ClassLoader loader = compile(
+      "package sample;\n" +
+        "import com.plugatar.jkscope.processor.LazyStatic;\n" +
+        "public class Values {\n" +
+        "  public static int calls;\n" +
+        "  @LazyStatic\n" +
+        "  public static Object value() { calls++; return new Object(); }\n" +
+        "  @LazyStatic(\"answer\")\n" +
+        "  static int computeAnswer() { return 42; }\n" +
+        "}\n"
+    );
+    final Class<?> valuesClass = loader.loadClass("sample.Values");
+    final Class<?> lazyClass = loader.loadClass("sample.ValuesLazy");
+    final Method value = lazyClass.getMethod("value");
+    final Method answer = lazyClass.getDeclaredMethod("answer");
+    answer.setAccessible(true);
+
+    assertThat(
+      Modifier.isFinal(lazyClass.getModifiers())
+    ).isTrue();
+    assertThat(
+      valuesClass.getField("calls").getInt(null)
+    ).isEqualTo(0);
+    final Object result = value.invoke(null);
+    assertThat(
+      result
+    ).isNotNull();
+    assertThat(
+      value.invoke(null)
+    ).isSameAs(result);
+    assertThat(
+      valuesClass.getField("calls").getInt(null)
+    ).isEqualTo(1);
+    assertThat(
+      answer.invoke(null)
+    ).isEqualTo(42);
+  }
+
+  @Test
+  void generatedAccessorRetriesAfterException() throws Exception {
+    final ClassLoader loader = compile(
+      "package sample;\n" +
+        "import com.plugatar.jkscope.processor.LazyStatic;\n" +
+        "public class Retrying {\n" +
+        "  public static int calls;\n" +
+        "  @LazyStatic\n" +
+        "  public static String value() throws java.io.IOException {\n" +
+        "    if (++calls == 1) { throw new java.io.IOException(\"fail\"); }\n" +
+        "    return \"abc\";\n" +
+        "  }\n" +
+        "}\n"
+    );
+    final Class<?> retryingClass = loader.loadClass("sample.Retrying");
+    final Method value = loader.loadClass("sample.RetryingLazy").getMethod("value");
+
+    assertThat(
+      value.getExceptionTypes()
+    ).containsExactly(java.io.IOException.class);
+    assertThatThrownBy(() -> value.invoke(null))
+      .isInstanceOf(InvocationTargetException.class)
+      .hasCauseInstanceOf(java.io.IOException.class);
+    assertThat(
+      value.invoke(null)
+    ).isEqualTo("abc");
+    assertThat(
+      value.invoke(null)
+    ).isEqualTo("abc");
+    assertThat(
+      retryingClass.getField("calls").getInt(null)
+    ).isEqualTo(2);
+  }
+
+  @Test
+  void generatedAccessorReturnsRetriedValueToFailedAndOtherThreadsAndReleasesFailure() throws Exception {
+    final ClassLoader loader = compile(
+      "package sample;\n" +
+        "import com.plugatar.jkscope.processor.LazyStatic;\n" +
+        "public class Failing {\n" +
+        "  public static int calls;\n" +
+        "  @LazyStatic\n" +
+        "  public static Object value() {\n" +
+        "    if (++calls == 1) { throw new IllegalStateException(\"fail\"); }\n" +
+        "    return new Object();\n" +
+        "  }\n" +
+        "}\n"
+    );
+    final Method value = loader.loadClass("sample.FailingLazy").getMethod("value");
+    final Class<?> holderClass = loader.loadClass("sample.FailingLazy$ValueHolder");
+
+    assertThatThrownBy(() -> value.invoke(null))
+      .isInstanceOf(InvocationTargetException.class)
+      .hasCauseInstanceOf(IllegalStateException.class);
+    final Object[] otherThreadResult = new Object[1];
+    final Thread thread = new Thread(() -> {
+      try {
+        otherThreadResult[0] = value.invoke(null);
+      } catch (final ReflectiveOperationException ex) {
+        otherThreadResult[0] = ex;
+      }
+    });
+    thread.start();
+    thread.join();
+    assertThat(
+      otherThreadResult[0]
+    ).isNotNull().isNotInstanceOf(Throwable.class);
+    assertThat(
+      value.invoke(null)
+    ).isSameAs(otherThreadResult[0]);
+    assertThat(
+      loader.loadClass("sample.Failing").getField("calls").getInt(null)
+    ).isEqualTo(2);
+    for (final String fieldName : Arrays.asList("pendingFailure", "failedThread")) {
+      final Field field = holderClass.getDeclaredField(fieldName);
+      field.setAccessible(true);
+      assertThat(
+        field.get(null)
+      ).isNull();
+    }
+  }
+
+  @Test
+  void generatedAccessorThrowsCachedException() throws Exception {
+    final ClassLoader loader = compile(
+      "package sample;\n" +
+        "import com.plugatar.jkscope.processor.LazyStatic;\n" +
+        "public class Failing {\n" +
+        "  public static int calls;\n" +
+        "  @LazyStatic(cacheFailure = true)\n" +
+        "  public static String value() throws java.io.IOException {\n" +
+        "    calls++;\n" +
+        "    throw new java.io.IOException(\"fail\");\n" +
+        "  }\n" +
+        "}\n"
+    );
+    final Class<?> failingClass = loader.loadClass("sample.Failing");
+    final Method value = loader.loadClass("sample.FailingLazy").getMethod("value");
+
+    assertThat(
+      value.getExceptionTypes()
+    ).containsExactly(java.io.IOException.class);
+    for (int idx = 0; idx < 2; idx++) {
+      assertThatThrownBy(() -> value.invoke(null))
+        .isInstanceOf(InvocationTargetException.class)
+        .hasCauseInstanceOf(java.io.IOException.class);
+    }
+    assertThat(
+      failingClass.getField("calls").getInt(null)
+    ).isEqualTo(1);
+  }
+
+  @Test
+  void accessorNamesDifferingInCaseGetSeparateHolders() throws Exception {
+    final ClassLoader loader = compile(
+      "package sample;\n" +
+        "import com.plugatar.jkscope.processor.LazyStatic;\n" +
+        "public class Cased {\n" +
+        "  @LazyStatic\n" +
+        "  public static String foo() { return \"lower\"; }\n" +
+        "  @LazyStatic\n" +
+        "  public static String Foo() { return \"upper\"; }\n" +
+        "}\n"
+    );
+    final Class<?> lazyClass = loader.loadClass("sample.CasedLazy");
+
+    assertThat(
+      lazyClass.getMethod("foo").invoke(null)
+    ).isEqualTo("lower");
+    assertThat(
+      lazyClass.getMethod("Foo").invoke(null)
+    ).isEqualTo("upper");
+  }
+
+  @Test
+  void nonStaticMethodIsReported() throws Exception {
+    final List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+    compile(errors,
+      "package sample;\n" +
+        "import com.plugatar.jkscope.processor.LazyStatic;\n" +
+        "public class Invalid {\n" +
+        "  @LazyStatic\n" +
+        "  public Object value() { return new Object(); }\n" +
+        "}\n"
+    );
+
+    assertThat(
+      errors
+    ).hasSize(1);
+    assertThat(
+      errors.get(0).getMessage(null)
+    ).contains("should be static");
+  }
+
+  private static ClassLoader compile(final String source) throws Exception {
+    final List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+    final ClassLoader loader = compile(errors, source);
+    assertThat(
+      errors
+    ).isEmpty();
+    return loader;
+  }
+
+  private static ClassLoader compile(final List<Diagnostic<? extends JavaFileObject>> errors,
+                                     final String source) throws Exception {
+    final Path dir = Files.createTempDirectory("jkscope-processor");
+    final String className = source.substring(source.indexOf("class ") + 6, source.indexOf(" {"));
+    final Path sourceFile = Files.createDirectories(dir.resolve("sample")).resolve(className + ".java");
+    Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (final StandardJavaFileManager fileManager =
+           compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+        Arrays.asList("-d", dir.toString(), "-s", dir.toString(),
+          "-classpath", System.getProperty("java.class.path")),
+        null, fileManager.getJavaFileObjects(sourceFile.toFile()));
+      task.setProcessors(Collections.singletonList(new LazyStaticProcessor()));
+      task.call();
+    }
+    for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        errors.add(diagnostic);
+      }
+    }
+    return new URLClassLoader(new URL[]{dir.toUri().toURL()}, LazyStaticProcessorTest.class.getClassLoader());
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.util.Cast;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Base class for {@link Lazy} implementations that hold the value in a field shared between threads.
+ * <p>
+ * The {@code null} field value means that the value is not initialized yet, {@code null} values are stored as a
+ * replacement object. Java 8 implementation uses a volatile field, newer runtimes use an implementation from
+ * {@code META-INF/versions} of the multi-release JAR.
+ *
+ * @param <V> the type of the value
+ */
+abstract class AbstractLazy<V> implements Lazy<V> {
+  private static final Object NULL_VALUE = new Object();
+  private static final AtomicReferenceFieldUpdater<AbstractLazy<?>, Object> VALUE_FIELD_UPDATER =
+    Cast.unsafe(AtomicReferenceFieldUpdater.newUpdater(AbstractLazy.class, Object.class, "value"));
+  private volatile Object value;
+
+  /**
+   * Ctor.
+   */
+  AbstractLazy() {
+  }
+
+  @Override
+  public final boolean isInitialized() {
+    return this.getAcquire() != null;
+  }
+
+  @Override
+  public String toString() {
+    final Object v = this.getAcquire();
+    return v != null
+      ? "Lazy[" + unwrap(v) + "]"
+      : "Lazy value not initialized yet";
+  }
+
+  /**
+   * Returns the value field with at least acquire semantics. Subsequent reads cannot be reordered before this read.
+   *
+   * @return the value field or {@code null} if the value is not initialized yet
+   */
+  final Object getAcquire() {
+    return this.value;
+  }
+
+  /**
+   * Returns the value field. Should be called only while holding the lock that guards value initialization.
+   *
+   * @return the value field or {@code null} if the value is not initialized yet
+   */
+  final Object getPlain() {
+    return this.value;
+  }
+
+  /**
+   * Sets the value with at least release semantics. Previous writes cannot be reordered after this write.
+   *
+   * @param newValue the new value
+   */
+  final void setRelease(final V newValue) {
+    this.value = wrap(newValue);
+  }
+
+  /**
+   * Sets the value if it is not initialized yet.
+   *
+   * @param newValue the new value
+   * @return {@code true} if the value was set, and {@code false} if the value is already initialized
+   */
+  final boolean compareAndSetInitial(final V newValue) {
+    return VALUE_FIELD_UPDATER.compareAndSet(this, null, wrap(newValue));
+  }
+
+  /**
+   * Returns the value of given value field.
+   *
+   * @param fieldValue not {@code null} value field
+   * @param <V>        the type of the value
+   * @return the value
+   */
+  static <V> V unwrap(final Object fieldValue) {
+    return fieldValue == NULL_VALUE ? null : Cast.unsafe(fieldValue);
+  }
+
+  private static Object wrap(final Object value) {
+    return value == null ? NULL_VALUE : value;
+  }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Base class for {@link Memoized} implementations.
+ * <p>
+ * Results are held in a {@link ConcurrentHashMap} and read without locks. The eviction order is a segmented LRU split
+ * into lock-striped segments: new entries go to the probation queue, entries hit again move to the protected queue and
+ * are demoted back to probation when the protected queue is full. Hits are recorded in lossy read buffers striped by
+ * thread and applied to the eviction order under the segment locks when a buffer fills or on the next miss of the
+ * thread, so readers neither wait for each other nor write a shared lock on every hit. Results are computed without
+ * holding any lock, concurrent misses for the same key may compute the result several times, the first installed
+ * result is used.
+ */
+abstract class AbstractMemoized implements Memoized {
+  /**
+   * Returned by {@link #lookup(Object)} for not cached keys.
+   */
+  static final Object NO_VALUE = new Object();
+  private static final Object NULL_KEY = new Object();
+  private static final int MAX_SEGMENTS = 64;
+  private static final int MAX_READ_BUFFERS = 64;
+  private static final int READ_BUFFER_SIZE = 16;
+  private final ConcurrentHashMap<Object, Node> data;
+  private final Segment[] segments;
+  private final AtomicReferenceArray<ReadBuffer> readBuffers;
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final LongAdder evictions;
+
+  /**
+   * Ctor.
+   *
+   * @param maxSize the maximum number of cached results, positive
+   */
+  AbstractMemoized(final int maxSize) {
+    final int processors = Runtime.getRuntime().availableProcessors();
+    int segmentCount = 1;
+    final int maxSegments = Math.min(MAX_SEGMENTS, processors * 4);
+    while (segmentCount < maxSegments && segmentCount * 2 <= maxSize) {
+      segmentCount *= 2;
+    }
+    this.data = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+    this.segments = new Segment[segmentCount];
+    for (int idx = 0; idx < segmentCount; idx++) {
+      this.segments[idx] = new Segment(maxSize / segmentCount + (idx < maxSize % segmentCount ? 1 : 0));
+    }
+    int readBufferCount = 1;
+    while (readBufferCount < MAX_READ_BUFFERS && readBufferCount < processors) {
+      readBufferCount *= 2;
+    }
+    this.readBuffers = new AtomicReferenceArray<>(readBufferCount);
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+  @Override
+  public final long hitCount() {
+    return this.hits.sum();
+  }
+
+  @Override
+  public final long missCount() {
+    return this.misses.sum();
+  }
+
+  @Override
+  public final long evictionCount() {
+    return this.evictions.sum();
+  }
+
+  @Override
+  public final int size() {
+    return this.data.size();
+  }
+
+  @Override
+  public String toString() {
+    return "Memoized[hits=" + this.hitCount() + ", misses=" + this.missCount() + ", evictions="
+      + this.evictionCount() + ", size=" + this.size() + "]";
+  }
+
+  /**
+   * Returns cached result for the given key.
+   *
+   * @param key the key
+   * @return cached result or {@link #NO_VALUE} if the result is not cached
+   */
+  final Object lookup(final Object key) {
+    final Object maskedKey = key == null ? NULL_KEY : key;
+    final Node node = this.data.get(maskedKey);
+    if (node == null) {
+      this.misses.increment();
+      return NO_VALUE;
+    }
+    this.hits.increment();
+    final int readBufferIdx = this.readBufferIndex();
+    ReadBuffer readBuffer = this.readBuffers.get(readBufferIdx);
+    if (readBuffer == null) {
+      this.readBuffers.compareAndSet(readBufferIdx, null, new ReadBuffer());
+      readBuffer = this.readBuffers.get(readBufferIdx);
+    }
+    final int position = readBuffer.position++ & (READ_BUFFER_SIZE - 1);
+    readBuffer.nodes.lazySet(position, node);
+    if (position == READ_BUFFER_SIZE - 1) {
+      this.drain(readBuffer);
+    }
+    return node.value;
+  }
+
+  /**
+   * Caches the given result if there is no cached result for the given key.
+   *
+   * @param key   the key
+   * @param value the computed result
+   * @param <V>   the type of the result
+   * @return cached result
+   */
+  @SuppressWarnings("unchecked")
+  final <V> V install(final Object key,
+                      final V value) {
+    final Object maskedKey = key == null ? NULL_KEY : key;
+    final ReadBuffer readBuffer = this.readBuffers.get(this.readBufferIndex());
+    if (readBuffer != null) {
+      this.drain(readBuffer);
+    }
+    final Segment segment = this.segmentFor(maskedKey);
+    segment.lock.lock();
+    try {
+      final Node existing = this.data.get(maskedKey);
+      if (existing != null) {
+        return (V) existing.value;
+      }
+      final Node node = new Node(maskedKey, value);
+      this.data.put(maskedKey, node);
+      segment.add(node);
+      while (segment.size > segment.capacity) {
+        final Node victim = segment.victim();
+        segment.unlink(victim);
+        this.data.remove(victim.key, victim);
+        this.evictions.increment();
+      }
+      return value;
+    } finally {
+      segment.lock.unlock();
+    }
+  }
+
+  private Segment segmentFor(final Object maskedKey) {
+    final int h = maskedKey.hashCode() * 0x9E3779B9;
+    return this.segments[(h ^ (h >>> 16)) & (this.segments.length - 1)];
+  }
+
+  private int readBufferIndex() {
+    final long id = Thread.currentThread().getId();
+    final int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & (this.readBuffers.length() - 1);
+  }
+
+  /**
+   * Applies the recorded hits to the eviction order. Hits of segments locked by other threads are dropped.
+   */
+  private void drain(final ReadBuffer readBuffer) {
+    for (int idx = 0; idx < READ_BUFFER_SIZE; idx++) {
+      if (readBuffer.nodes.get(idx) == null) {
+        continue;
+      }
+      final Node node = readBuffer.nodes.getAndSet(idx, null);
+      if (node == null) {
+        continue;
+      }
+      final Segment segment = this.segmentFor(node.key);
+      if (segment.lock.tryLock()) {
+        try {
+          segment.onHit(node);
+        } finally {
+          segment.lock.unlock();
+        }
+      }
+    }
+  }
+
+  /**
+   * Recently hit nodes of the threads mapped to this buffer. The position is updated without synchronization, racing
+   * hits may overwrite each other.
+   */
+  private static final class ReadBuffer {
+    private final AtomicReferenceArray<Node> nodes = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private int position;
+  }
+
+  private static final class Segment {
+    private final ReentrantLock lock;
+    private final int capacity;
+    private final int protectedCapacity;
+    private final Node probation;
+    private final Node protectedHead;
+    private int size;
+    private int protectedSize;
+
+    private Segment(final int capacity) {
+      this.lock = new ReentrantLock();
+      this.capacity = capacity;
+      this.protectedCapacity = capacity - Math.max(1, capacity / 5);
+      this.probation = Node.sentinel();
+      this.protectedHead = Node.sentinel();
+    }
+
+    private void add(final Node node) {
+      node.protectedQueue = false;
+      node.linkBefore(this.probation);
+      this.size++;
+    }
+
+    private void onHit(final Node node) {
+      if (node.prev == null) {
+        return; /* evicted */
+      }
+      node.unlinkSelf();
+      node.linkBefore(this.protectedHead);
+      if (!node.protectedQueue) {
+        node.protectedQueue = true;
+        this.protectedSize++;
+        while (this.protectedSize > this.protectedCapacity) {
+          final Node demoted = this.protectedHead.next;
+          demoted.unlinkSelf();
+          demoted.protectedQueue = false;
+          demoted.linkBefore(this.probation);
+          this.protectedSize--;
+        }
+      }
+    }
+
+    private Node victim() {
+      return this.probation.next != this.probation
+        ? this.probation.next
+        : this.protectedHead.next;
+    }
+
+    private void unlink(final Node node) {
+      node.unlinkSelf();
+      if (node.protectedQueue) {
+        this.protectedSize--;
+      }
+      this.size--;
+    }
+  }
+
+  private static final class Node {
+    private final Object key;
+    private final Object value;
+    private Node prev;
+    private Node next;
+    private boolean protectedQueue;
+
+    private Node(final Object key,
+                 final Object value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    private static Node sentinel() {
+      final Node sentinel = new Node(null, null);
+      sentinel.prev = sentinel;
+      sentinel.next = sentinel;
+      return sentinel;
+    }
+
+    private void linkBefore(final Node sentinel) {
+      this.prev = sentinel.prev;
+      this.next = sentinel;
+      sentinel.prev.next = this;
+      sentinel.prev = this;
+    }
+
+    private void unlinkSelf() {
+      this.prev.next = this.next;
+      this.next.prev = this.prev;
+      this.prev = null;
+      this.next = null;
+    }
+  }
+}
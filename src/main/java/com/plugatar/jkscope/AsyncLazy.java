@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a value with lazy asynchronous initialization. The initializer is run exactly once on the executor, waiters
+ * are completed through the {@link CompletableFuture} without being blocked.
+ *
+ * @param <V> the type of the value
+ */
+public interface AsyncLazy<V> extends Lazy<V> {
+
+  /**
+   * Starts the initialization if it has not been started yet and returns the future of the value. Each call returns a
+   * new future dependent on the initialization, completing or cancelling it does not affect the value.
+   *
+   * @return future of the value
+   */
+  CompletableFuture<V> getAsync();
+
+  /**
+   * Starts the initialization if it has not been started yet, waits for it and returns the value. If the initializer
+   * has thrown an exception, this exception will be thrown.
+   *
+   * @return value
+   */
+  @Override
+  V get();
+}
@@ -18,6 +18,8 @@ package com.plugatar.jkscope;
 import com.plugatar.jkscope.function.Th2Consumer;
 import com.plugatar.jkscope.function.Th2ConsumerIntObj;
 import com.plugatar.jkscope.function.Th2Function;
+import com.plugatar.jkscope.function.Th2FunctionIntObjToInt;
+import com.plugatar.jkscope.function.Th2FunctionLongObjToLong;
 import com.plugatar.jkscope.function.Th3Consumer;
 import com.plugatar.jkscope.function.Th3ConsumerIntObj2;
 import com.plugatar.jkscope.function.Th3Function;
@@ -34,16 +36,56 @@ import com.plugatar.jkscope.function.ThConsumerInt;
 import com.plugatar.jkscope.function.ThFunction;
 import com.plugatar.jkscope.function.ThRunnable;
 import com.plugatar.jkscope.function.ThSupplier;
+import com.plugatar.jkscope.function.ThSupplierInt;
+import com.plugatar.jkscope.function.ThSupplierLong;
+import com.plugatar.jkscope.function.ThSupplierDouble;
+import com.plugatar.jkscope.function.ThUnaryOperatorInt;
+import com.plugatar.jkscope.function.ThUnaryOperatorLong;
 import com.plugatar.jkscope.util.Cast;
 import com.plugatar.jkscope.util.Throw;
 
 import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * JKScope utility methods.
@@ -178,14 +220,64 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
  * <li>{@link #recur2(Object, Object, Th4Function)}</li>
  * <li>{@link #recur3(Object, Object, Object, Th4Function)}</li>
  * <li>{@link #recur3(Object, Object, Object, Th5Function)}</li>
+ * <li>{@link #recurInt(int, Th2FunctionIntObjToInt)}</li>
+ * <li>{@link #recurLong(long, Th2FunctionLongObjToLong)}</li>
+ * <li>{@link #recurOnLargeStack(long, ThRunnable)}</li>
+ * <li>{@link #recurOnLargeStack(long, ThSupplier)}</li>
+ * </ul>
+ * <p>
+ * {@code trampoline} methods:
+ * <ul>
+ * <li>{@link #trampoline1(Object, Th2Consumer)}</li>
+ * <li>{@link #trampoline1(Object, Object, Th3Consumer)}</li>
+ * <li>{@link #trampoline2(Object, Object, Th3Consumer)}</li>
+ * <li>{@link #trampoline1(Object, Th2Function)}</li>
+ * <li>{@link #trampoline2(Object, Object, Th3Function)}</li>
+ * </ul>
+ * <p>
+ * {@code recurMemo} methods:
+ * <ul>
+ * <li>{@link #recurMemo1(Object, Th2Function)}</li>
+ * <li>{@link #recurMemo1(Object, int, Th2Function)}</li>
+ * <li>{@link #recurMemo2(Object, Object, Th3Function)}</li>
+ * <li>{@link #recurMemo2(Object, Object, int, Th3Function)}</li>
+ * </ul>
+ * <p>
+ * {@code recurParallel} methods:
+ * <ul>
+ * <li>{@link #recurParallel1(Object, int, Th3Function)}</li>
+ * <li>{@link #recurParallel1(Object, int, ForkJoinPool, Th3Function)}</li>
  * </ul>
  * <p>
  * {@code lazy} methods:
  * <ul>
  * <li>{@link #lazy(ThSupplier)}</li>
  * <li>{@link #lazy(Object, ThSupplier)}</li>
+ * <li>{@link #lazyLock(Lock, ThSupplier)}</li>
  * <li>{@link #lazy(Lazy.ThreadSafetyMode, ThSupplier)}</li>
+ * <li>{@link #lazy(Lazy.FailurePolicy, ThSupplier)}</li>
+ * <li>{@link #lazy(Duration, ThSupplier)}</li>
+ * <li>{@link #lazy(Duration, Duration, Executor, ThSupplier)}</li>
  * <li>{@link #lazyOf(Object)}</li>
+ * <li>{@link #lazyAsync(ThSupplier, Executor)}</li>
+ * <li>{@link #lazySoft(ThSupplier)}</li>
+ * <li>{@link #lazyResettable(ThSupplier)}</li>
+ * <li>{@link #lazyResettable(Lazy.ThreadSafetyMode, ThSupplier)}</li>
+ * <li>{@link #lazyThreadLocal(ThSupplier)}</li>
+ * <li>{@link #lazyGroup()}</li>
+ * <li>{@link #lazyInt(ThSupplierInt)}</li>
+ * <li>{@link #lazyInt(Lazy.ThreadSafetyMode, ThSupplierInt)}</li>
+ * <li>{@link #lazyLong(ThSupplierLong)}</li>
+ * <li>{@link #lazyLong(Lazy.ThreadSafetyMode, ThSupplierLong)}</li>
+ * <li>{@link #lazyDouble(ThSupplierDouble)}</li>
+ * <li>{@link #lazyDouble(Lazy.ThreadSafetyMode, ThSupplierDouble)}</li>
+ * </ul>
+ * <p>
+ * {@code memoize} methods:
+ * <ul>
+ * <li>{@link #memoize(ThFunction, int)}</li>
+ * <li>{@link #memoize(Th2Function, int)}</li>
+ * <li>{@link #memoize(Th3Function, int)}</li>
  * </ul>
  */
 public final class JKScope {
@@ -2377,9 +2469,13 @@ public final class JKScope {
    */
   public static void recur(final ThConsumer<? super ThRunnable<? extends Throwable>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThRunnable<?>> selfRef = new AtomicReference<>();
-    selfRef.set(() -> block.accept(selfRef.get()));
-    ThConsumer.unchecked(block).accept(selfRef.get());
+    final ThRunnable<Throwable> self = new ThRunnable<Throwable>() {
+      @Override
+      public void run() throws Throwable {
+        block.accept(this);
+      }
+    };
+    ThConsumer.unchecked(block).accept(self);
   }
 
   /**
@@ -2399,17 +2495,19 @@ public final class JKScope {
    */
   public static void recur(final Th2Consumer<? super RecurDepth, ? super ThRunnable<?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThRunnable<?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set(() -> {
-      try {
-        recurDepth.current++;
-        block.accept(recurDepth, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final ThRunnable<Throwable> self = new ThRunnable<Throwable>() {
+      @Override
+      public void run() throws Throwable {
+        try {
+          recurDepth.current++;
+          block.accept(recurDepth, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    Th2Consumer.unchecked(block).accept(recurDepth, selfRef.get());
+    };
+    Th2Consumer.unchecked(block).accept(recurDepth, self);
   }
 
   /**
@@ -2433,9 +2531,13 @@ public final class JKScope {
   public static <A> A recur(final A accValue,
                             final Th2Consumer<? super A, ? super ThRunnable<?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThRunnable<?>> selfRef = new AtomicReference<>();
-    selfRef.set(() -> block.accept(accValue, selfRef.get()));
-    Th2Consumer.unchecked(block).accept(accValue, selfRef.get());
+    final ThRunnable<Throwable> self = new ThRunnable<Throwable>() {
+      @Override
+      public void run() throws Throwable {
+        block.accept(accValue, this);
+      }
+    };
+    Th2Consumer.unchecked(block).accept(accValue, self);
     return accValue;
   }
 
@@ -2460,17 +2562,19 @@ public final class JKScope {
   public static <A> A recur(final A accValue,
                             final Th3Consumer<? super RecurDepth, ? super A, ? super ThRunnable<?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThRunnable<?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set(() -> {
-      try {
-        recurDepth.current++;
-        block.accept(recurDepth, accValue, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final ThRunnable<Throwable> self = new ThRunnable<Throwable>() {
+      @Override
+      public void run() throws Throwable {
+        try {
+          recurDepth.current++;
+          block.accept(recurDepth, accValue, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    Th3Consumer.unchecked(block).accept(recurDepth, accValue, selfRef.get());
+    };
+    Th3Consumer.unchecked(block).accept(recurDepth, accValue, self);
     return accValue;
   }
 
@@ -2494,9 +2598,13 @@ public final class JKScope {
   public static <V> void recur1(final V initValue,
                                 final Th2Consumer<? super V, ? super ThConsumer<V, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThConsumer<V, ?>> selfRef = new AtomicReference<>();
-    selfRef.set(v -> block.accept(v, selfRef.get()));
-    Th2Consumer.unchecked(block).accept(initValue, selfRef.get());
+    final ThConsumer<V, Throwable> self = new ThConsumer<V, Throwable>() {
+      @Override
+      public void accept(final V v) throws Throwable {
+        block.accept(v, this);
+      }
+    };
+    Th2Consumer.unchecked(block).accept(initValue, self);
   }
 
   /**
@@ -2519,17 +2627,19 @@ public final class JKScope {
   public static <V> void recur1(final V initValue,
                                 final Th3Consumer<? super RecurDepth, ? super V, ? super ThConsumer<V, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThConsumer<V, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set(v -> {
-      try {
-        recurDepth.current++;
-        block.accept(recurDepth, v, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final ThConsumer<V, Throwable> self = new ThConsumer<V, Throwable>() {
+      @Override
+      public void accept(final V v) throws Throwable {
+        try {
+          recurDepth.current++;
+          block.accept(recurDepth, v, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    Th3Consumer.unchecked(block).accept(recurDepth, initValue, selfRef.get());
+    };
+    Th3Consumer.unchecked(block).accept(recurDepth, initValue, self);
   }
 
   /**
@@ -2556,9 +2666,13 @@ public final class JKScope {
                                 final A accValue,
                                 final Th3Consumer<? super V, ? super A, ? super ThConsumer<V, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThConsumer<V, ?>> selfRef = new AtomicReference<>();
-    selfRef.set(v -> block.accept(v, accValue, selfRef.get()));
-    Th3Consumer.unchecked(block).accept(initValue, accValue, selfRef.get());
+    final ThConsumer<V, Throwable> self = new ThConsumer<V, Throwable>() {
+      @Override
+      public void accept(final V v) throws Throwable {
+        block.accept(v, accValue, this);
+      }
+    };
+    Th3Consumer.unchecked(block).accept(initValue, accValue, self);
     return accValue;
   }
 
@@ -2586,17 +2700,19 @@ public final class JKScope {
                                 final A accValue,
                                 final Th4Consumer<? super RecurDepth, ? super V, ? super A, ? super ThConsumer<V, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThConsumer<V, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set(v -> {
-      try {
-        recurDepth.current++;
-        block.accept(recurDepth, v, accValue, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final ThConsumer<V, Throwable> self = new ThConsumer<V, Throwable>() {
+      @Override
+      public void accept(final V v) throws Throwable {
+        try {
+          recurDepth.current++;
+          block.accept(recurDepth, v, accValue, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    Th4Consumer.unchecked(block).accept(recurDepth, initValue, accValue, selfRef.get());
+    };
+    Th4Consumer.unchecked(block).accept(recurDepth, initValue, accValue, self);
     return accValue;
   }
 
@@ -2616,9 +2732,14 @@ public final class JKScope {
                                      final V2 initValue2,
                                      final Th3Consumer<? super V1, ? super V2, ? super Th2Consumer<V1, V2, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th2Consumer<V1, V2, ?>> selfRef = new AtomicReference<>();
-    selfRef.set((v1, v2) -> block.accept(v1, v2, selfRef.get()));
-    Th3Consumer.unchecked(block).accept(initValue1, initValue2, selfRef.get());
+    final Th2Consumer<V1, V2, Throwable> self = new Th2Consumer<V1, V2, Throwable>() {
+      @Override
+      public void accept(final V1 v1,
+                         final V2 v2) throws Throwable {
+        block.accept(v1, v2, this);
+      }
+    };
+    Th3Consumer.unchecked(block).accept(initValue1, initValue2, self);
   }
 
   /**
@@ -2637,17 +2758,20 @@ public final class JKScope {
                                      final V2 initValue2,
                                      final Th4Consumer<? super RecurDepth, ? super V1, ? super V2, ? super Th2Consumer<V1, V2, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th2Consumer<V1, V2, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set((v1, v2) -> {
-      try {
-        recurDepth.current++;
-        block.accept(recurDepth, v1, v2, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final Th2Consumer<V1, V2, Throwable> self = new Th2Consumer<V1, V2, Throwable>() {
+      @Override
+      public void accept(final V1 v1,
+                         final V2 v2) throws Throwable {
+        try {
+          recurDepth.current++;
+          block.accept(recurDepth, v1, v2, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    Th4Consumer.unchecked(block).accept(recurDepth, initValue1, initValue2, selfRef.get());
+    };
+    Th4Consumer.unchecked(block).accept(recurDepth, initValue1, initValue2, self);
   }
 
   /**
@@ -2670,9 +2794,14 @@ public final class JKScope {
                                      final A accValue,
                                      final Th4Consumer<? super V1, ? super V2, ? super A, ? super Th2Consumer<V1, V2, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th2Consumer<V1, V2, ?>> selfRef = new AtomicReference<>();
-    selfRef.set((v1, v2) -> block.accept(v1, v2, accValue, selfRef.get()));
-    Th4Consumer.unchecked(block).accept(initValue1, initValue2, accValue, selfRef.get());
+    final Th2Consumer<V1, V2, Throwable> self = new Th2Consumer<V1, V2, Throwable>() {
+      @Override
+      public void accept(final V1 v1,
+                         final V2 v2) throws Throwable {
+        block.accept(v1, v2, accValue, this);
+      }
+    };
+    Th4Consumer.unchecked(block).accept(initValue1, initValue2, accValue, self);
     return accValue;
   }
 
@@ -2696,17 +2825,20 @@ public final class JKScope {
                                      final A accValue,
                                      final Th5Consumer<? super RecurDepth, ? super V1, ? super V2, ? super A, ? super Th2Consumer<V1, V2, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th2Consumer<V1, V2, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set((v1, v2) -> {
-      try {
-        recurDepth.current++;
-        block.accept(recurDepth, v1, v2, accValue, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final Th2Consumer<V1, V2, Throwable> self = new Th2Consumer<V1, V2, Throwable>() {
+      @Override
+      public void accept(final V1 v1,
+                         final V2 v2) throws Throwable {
+        try {
+          recurDepth.current++;
+          block.accept(recurDepth, v1, v2, accValue, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    Th5Consumer.unchecked(block).accept(recurDepth, initValue1, initValue2, accValue, selfRef.get());
+    };
+    Th5Consumer.unchecked(block).accept(recurDepth, initValue1, initValue2, accValue, self);
     return accValue;
   }
 
@@ -2729,9 +2861,15 @@ public final class JKScope {
                                          final V3 initValue3,
                                          final Th4Consumer<? super V1, ? super V2, ? super V3, ? super Th3Consumer<V1, V2, V3, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th3Consumer<V1, V2, V3, ?>> selfRef = new AtomicReference<>();
-    selfRef.set((v1, v2, v3) -> block.accept(v1, v2, v3, selfRef.get()));
-    Th4Consumer.unchecked(block).accept(initValue1, initValue2, initValue3, selfRef.get());
+    final Th3Consumer<V1, V2, V3, Throwable> self = new Th3Consumer<V1, V2, V3, Throwable>() {
+      @Override
+      public void accept(final V1 v1,
+                         final V2 v2,
+                         final V3 v3) throws Throwable {
+        block.accept(v1, v2, v3, this);
+      }
+    };
+    Th4Consumer.unchecked(block).accept(initValue1, initValue2, initValue3, self);
   }
 
   /**
@@ -2753,17 +2891,21 @@ public final class JKScope {
                                          final V3 initValue3,
                                          final Th5Consumer<? super RecurDepth, ? super V1, ? super V2, ? super V3, ? super Th3Consumer<V1, V2, V3, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th3Consumer<V1, V2, V3, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set((v1, v2, v3) -> {
-      try {
-        recurDepth.current++;
-        block.accept(recurDepth, v1, v2, v3, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final Th3Consumer<V1, V2, V3, Throwable> self = new Th3Consumer<V1, V2, V3, Throwable>() {
+      @Override
+      public void accept(final V1 v1,
+                         final V2 v2,
+                         final V3 v3) throws Throwable {
+        try {
+          recurDepth.current++;
+          block.accept(recurDepth, v1, v2, v3, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    Th5Consumer.unchecked(block).accept(recurDepth, initValue1, initValue2, initValue3, selfRef.get());
+    };
+    Th5Consumer.unchecked(block).accept(recurDepth, initValue1, initValue2, initValue3, self);
   }
 
   /**
@@ -2789,9 +2931,15 @@ public final class JKScope {
                                          final A accValue,
                                          final Th5Consumer<? super V1, ? super V2, ? super V3, ? super A, ? super Th3Consumer<V1, V2, V3, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th3Consumer<V1, V2, V3, ?>> selfRef = new AtomicReference<>();
-    selfRef.set((v1, v2, v3) -> block.accept(v1, v2, v3, accValue, selfRef.get()));
-    Th5Consumer.unchecked(block).accept(initValue1, initValue2, initValue3, accValue, selfRef.get());
+    final Th3Consumer<V1, V2, V3, Throwable> self = new Th3Consumer<V1, V2, V3, Throwable>() {
+      @Override
+      public void accept(final V1 v1,
+                         final V2 v2,
+                         final V3 v3) throws Throwable {
+        block.accept(v1, v2, v3, accValue, this);
+      }
+    };
+    Th5Consumer.unchecked(block).accept(initValue1, initValue2, initValue3, accValue, self);
     return accValue;
   }
 
@@ -2818,17 +2966,21 @@ public final class JKScope {
                                          final A accValue,
                                          final Th6Consumer<? super RecurDepth, ? super V1, ? super V2, ? super V3, ? super A, ? super Th3Consumer<V1, V2, V3, ?>, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th3Consumer<V1, V2, V3, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set((v1, v2, v3) -> {
-      try {
-        recurDepth.current++;
-        block.accept(recurDepth, v1, v2, v3, accValue, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final Th3Consumer<V1, V2, V3, Throwable> self = new Th3Consumer<V1, V2, V3, Throwable>() {
+      @Override
+      public void accept(final V1 v1,
+                         final V2 v2,
+                         final V3 v3) throws Throwable {
+        try {
+          recurDepth.current++;
+          block.accept(recurDepth, v1, v2, v3, accValue, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    Th6Consumer.unchecked(block).accept(recurDepth, initValue1, initValue2, initValue3, accValue, selfRef.get());
+    };
+    Th6Consumer.unchecked(block).accept(recurDepth, initValue1, initValue2, initValue3, accValue, self);
     return accValue;
   }
 
@@ -2848,9 +3000,13 @@ public final class JKScope {
    */
   public static <R> R recur(final ThFunction<? super ThSupplier<R, ?>, ? extends R, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThSupplier<R, ?>> selfRef = new AtomicReference<>();
-    selfRef.set(() -> block.apply(selfRef.get()));
-    return ThFunction.unchecked(block).apply(selfRef.get());
+    final ThSupplier<R, Throwable> self = new ThSupplier<R, Throwable>() {
+      @Override
+      public R get() throws Throwable {
+        return block.apply(this);
+      }
+    };
+    return ThFunction.unchecked(block).apply(self);
   }
 
   /**
@@ -2872,17 +3028,19 @@ public final class JKScope {
    */
   public static <R> R recur(final Th2Function<? super RecurDepth, ? super ThSupplier<R, ?>, ? extends R, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThSupplier<R, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set(() -> {
-      try {
-        recurDepth.current++;
-        return block.apply(recurDepth, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final ThSupplier<R, Throwable> self = new ThSupplier<R, Throwable>() {
+      @Override
+      public R get() throws Throwable {
+        try {
+          recurDepth.current++;
+          return block.apply(recurDepth, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    return Th2Function.unchecked(block).apply(recurDepth, selfRef.get());
+    };
+    return Th2Function.unchecked(block).apply(recurDepth, self);
   }
 
   /**
@@ -2907,9 +3065,13 @@ public final class JKScope {
   public static <V, R> R recur1(final V initValue,
                                 final Th2Function<? super V, ? super ThFunction<V, R, ?>, ? extends R, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThFunction<V, R, ?>> selfRef = new AtomicReference<>();
-    selfRef.set(v -> block.apply(v, selfRef.get()));
-    return Th2Function.unchecked(block).apply(initValue, selfRef.get());
+    final ThFunction<V, R, Throwable> self = new ThFunction<V, R, Throwable>() {
+      @Override
+      public R apply(final V v) throws Throwable {
+        return block.apply(v, this);
+      }
+    };
+    return Th2Function.unchecked(block).apply(initValue, self);
   }
 
   /**
@@ -2934,17 +3096,19 @@ public final class JKScope {
   public static <V, R> R recur1(final V initValue,
                                 final Th3Function<? super RecurDepth, ? super V, ? super ThFunction<V, R, ?>, ? extends R, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<ThFunction<V, R, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set(v -> {
-      try {
-        recurDepth.current++;
-        return block.apply(recurDepth, v, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final ThFunction<V, R, Throwable> self = new ThFunction<V, R, Throwable>() {
+      @Override
+      public R apply(final V v) throws Throwable {
+        try {
+          recurDepth.current++;
+          return block.apply(recurDepth, v, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    return Th3Function.unchecked(block).apply(recurDepth, initValue, selfRef.get());
+    };
+    return Th3Function.unchecked(block).apply(recurDepth, initValue, self);
   }
 
   /**
@@ -2964,9 +3128,14 @@ public final class JKScope {
                                      final V2 initValue2,
                                      final Th3Function<? super V1, ? super V2, ? super Th2Function<V1, V2, R, ?>, ? extends R, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th2Function<V1, V2, R, ?>> selfRef = new AtomicReference<>();
-    selfRef.set((v1, v2) -> block.apply(v1, v2, selfRef.get()));
-    return Th3Function.unchecked(block).apply(initValue1, initValue2, selfRef.get());
+    final Th2Function<V1, V2, R, Throwable> self = new Th2Function<V1, V2, R, Throwable>() {
+      @Override
+      public R apply(final V1 v1,
+                     final V2 v2) throws Throwable {
+        return block.apply(v1, v2, this);
+      }
+    };
+    return Th3Function.unchecked(block).apply(initValue1, initValue2, self);
   }
 
   /**
@@ -2986,17 +3155,20 @@ public final class JKScope {
                                      final V2 initValue2,
                                      final Th4Function<? super RecurDepth, ? super V1, ? super V2, ? super Th2Function<V1, V2, R, ?>, ? extends R, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th2Function<V1, V2, R, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set((v1, v2) -> {
-      try {
-        recurDepth.current++;
-        return block.apply(recurDepth, v1, v2, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final Th2Function<V1, V2, R, Throwable> self = new Th2Function<V1, V2, R, Throwable>() {
+      @Override
+      public R apply(final V1 v1,
+                     final V2 v2) throws Throwable {
+        try {
+          recurDepth.current++;
+          return block.apply(recurDepth, v1, v2, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    return Th4Function.unchecked(block).apply(recurDepth, initValue1, initValue2, selfRef.get());
+    };
+    return Th4Function.unchecked(block).apply(recurDepth, initValue1, initValue2, self);
   }
 
   /**
@@ -3019,9 +3191,15 @@ public final class JKScope {
                                          final V3 initValue3,
                                          final Th4Function<? super V1, ? super V2, ? super V3, ? super Th3Function<V1, V2, V3, R, ?>, ? extends R, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th3Function<V1, V2, V3, R, ?>> selfRef = new AtomicReference<>();
-    selfRef.set((v1, v2, v3) -> block.apply(v1, v2, v3, selfRef.get()));
-    return Th4Function.unchecked(block).apply(initValue1, initValue2, initValue3, selfRef.get());
+    final Th3Function<V1, V2, V3, R, Throwable> self = new Th3Function<V1, V2, V3, R, Throwable>() {
+      @Override
+      public R apply(final V1 v1,
+                     final V2 v2,
+                     final V3 v3) throws Throwable {
+        return block.apply(v1, v2, v3, this);
+      }
+    };
+    return Th4Function.unchecked(block).apply(initValue1, initValue2, initValue3, self);
   }
 
   /**
@@ -3044,866 +3222,3538 @@ public final class JKScope {
                                          final V3 initValue3,
                                          final Th5Function<? super RecurDepth, ? super V1, ? super V2, ? super V3, ? super Th3Function<V1, V2, V3, R, ?>, ? extends R, ?> block) {
     blockArgNotNull(block);
-    final AtomicReference<Th3Function<V1, V2, V3, R, ?>> selfRef = new AtomicReference<>();
     final RecurDepthImpl recurDepth = new RecurDepthImpl();
-    selfRef.set((v1, v2, v3) -> {
-      try {
-        recurDepth.current++;
-        return block.apply(recurDepth, v1, v2, v3, selfRef.get());
-      } finally {
-        recurDepth.current--;
+    final Th3Function<V1, V2, V3, R, Throwable> self = new Th3Function<V1, V2, V3, R, Throwable>() {
+      @Override
+      public R apply(final V1 v1,
+                     final V2 v2,
+                     final V3 v3) throws Throwable {
+        try {
+          recurDepth.current++;
+          return block.apply(recurDepth, v1, v2, v3, this);
+        } finally {
+          recurDepth.current--;
+        }
       }
-    });
-    return Th5Function.unchecked(block).apply(recurDepth, initValue1, initValue2, initValue3, selfRef.get());
+    };
+    return Th5Function.unchecked(block).apply(recurDepth, initValue1, initValue2, initValue3, self);
   }
 
   /**
-   * Returns a new {@link Lazy} instance that uses the specified initialization function and the
-   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode. The returned instance uses itself to synchronize
-   * on.
+   * Performs given function block recursively and returns result. Values and results are not boxed.
    *
    * <pre>{@code
-   * Lazy<String> lazyValue = lazy(() -> {
-   *   //...
-   *   return "abc";
+   * int result = recurInt(10, (value, self) -> {
+   *   if (value <= 1) {
+   *     return 1;
+   *   }
+   *   return value * self.applyAsInt(value - 1);
    * });
    * }</pre>
    *
-   * @param initializer the value initializer
-   * @param <V>         the type of the value
-   * @return new {@link Lazy} instance
-   * @throws NullPointerException if {@code initializer} arg is null
+   * @param initValue the initial value
+   * @param block     the function block
+   * @return result
+   * @throws NullPointerException if {@code block} arg is {@code null}
    */
-  public static <V> Lazy<V> lazy(final ThSupplier<? extends V, ?> initializer) {
-    initializerArgNotNull(initializer);
-    return new SynchronizedLazy<>(initializer);
+  public static int recurInt(final int initValue,
+                             final Th2FunctionIntObjToInt<? super ThUnaryOperatorInt<?>, ?> block) {
+    blockArgNotNull(block);
+    final ThUnaryOperatorInt<Throwable> self = new ThUnaryOperatorInt<Throwable>() {
+      @Override
+      public int applyAsInt(final int value) throws Throwable {
+        return block.applyAsInt(value, this);
+      }
+    };
+    return Th2FunctionIntObjToInt.unchecked(block).applyAsInt(initValue, self);
   }
 
   /**
-   * Returns a new {@link Lazy} instance that uses the specified initialization function and the
-   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode. The returned instance uses the specified lock object
-   * to synchronize on.
+   * Performs given function block recursively and returns result. Values and results are not boxed.
    *
    * <pre>{@code
-   * Object externalLock = new Object();
-   * Lazy<String> lazyValue = lazy(externalLock, () -> {
-   *   //...
-   *   return "abc";
+   * long result = recurLong(20L, (value, self) -> {
+   *   if (value <= 1L) {
+   *     return 1L;
+   *   }
+   *   return value * self.applyAsLong(value - 1L);
    * });
    * }</pre>
    *
-   * @param lock        the lock object
-   * @param initializer the value initializer
-   * @param <V>         the type of the value
-   * @return new {@link Lazy} instance
-   * @throws NullPointerException if {@code lock} arg is null or {@code initializer} arg is null
+   * @param initValue the initial value
+   * @param block     the function block
+   * @return result
+   * @throws NullPointerException if {@code block} arg is {@code null}
    */
-  public static <V> Lazy<V> lazy(final Object lock,
-                                 final ThSupplier<? extends V, ?> initializer) {
-    lockArgNotNull(lock);
-    initializerArgNotNull(initializer);
-    return new SynchronizedLazy<>(lock, initializer);
+  public static long recurLong(final long initValue,
+                               final Th2FunctionLongObjToLong<? super ThUnaryOperatorLong<?>, ?> block) {
+    blockArgNotNull(block);
+    final ThUnaryOperatorLong<Throwable> self = new ThUnaryOperatorLong<Throwable>() {
+      @Override
+      public long applyAsLong(final long value) throws Throwable {
+        return block.applyAsLong(value, this);
+      }
+    };
+    return Th2FunctionLongObjToLong.unchecked(block).applyAsLong(initValue, self);
   }
 
   /**
-   * Returns a new {@link Lazy} instance that uses the specified initialization function and thread-safety mode. For
-   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} the returned instance uses itself to synchronize on.
+   * Performs given function block on a pooled platform thread with the specified stack size. The current thread waits
+   * for the block uninterruptibly, exceptions are thrown unchanged. If the current thread is already such a thread with
+   * a stack size greater than or equal to the specified one, the block is performed in the current thread. The stack
+   * size is rounded up to a power of two and to at least 1 MiB, threads of each rounded stack size are pooled, their
+   * number is limited by the number of available processors and further calls wait for a free thread. Threads are
+   * reused and terminated after one minute of inactivity. Pool threads use the system class loader as the context
+   * class loader and, on Java 9+, don't inherit inheritable thread-local values of the caller that created them.
+   *
+   * <p>The stack size is passed to the {@link Thread#Thread(ThreadGroup, Runnable, String, long)} ctor, some platforms
+   * ignore it.</p>
    *
    * <pre>{@code
-   * Lazy<String> lazyValue = lazy(ThreadSafetyMode.PUBLICATION, () -> {
-   *   //...
-   *   return "abc";
+   * recurOnLargeStack(512L * 1024 * 1024, () -> {
+   *   recur1(root, (node, self) -> {
+   *     //...
+   *   });
    * });
    * }</pre>
    *
-   * @param threadSafetyMode the thread safety mode
-   * @param initializer      the value initializer
-   * @param <V>              the type of the value
-   * @return new {@link Lazy} instance
-   * @throws NullPointerException if {@code threadSafetyMode} arg is null or {@code initializer} arg is null
+   * @param stackSize the stack size in bytes
+   * @param block     the function block
+   * @throws NullPointerException     if {@code block} arg is {@code null}
+   * @throws IllegalArgumentException if {@code stackSize} arg is zero or negative
    */
-  public static <V> Lazy<V> lazy(final Lazy.ThreadSafetyMode threadSafetyMode,
-                                 final ThSupplier<? extends V, ?> initializer) {
-    threadSafetyModeArgNotNull(threadSafetyMode);
-    initializerArgNotNull(initializer);
-    switch (threadSafetyMode) {
-      case SYNCHRONIZED:
-        return new SynchronizedLazy<>(initializer);
-      case PUBLICATION:
-        return new SafePublicationLazy<>(initializer);
-      case NONE:
-        return new UnsafeLazy<>(initializer);
-      default:
-        throw new Error(); /* unreachable */
-    }
+  public static void recurOnLargeStack(final long stackSize,
+                                       final ThRunnable<?> block) {
+    blockArgNotNull(block);
+    recurOnLargeStack(stackSize, () -> {
+      block.run();
+      return null;
+    });
   }
 
   /**
-   * Returns a new {@link Lazy} instance that is already initialized with the specified value.
+   * Performs given function block on a pooled platform thread with the specified stack size and returns result.
+   *
+   * <p>Same as the {@link #recurOnLargeStack(long, ThRunnable)} method but returns result.</p>
    *
    * <pre>{@code
-   * Lazy<String> lazyValue4 = lazyOf("abc");
+   * Integer depth = recurOnLargeStack(512L * 1024 * 1024, () ->
+   *   recur1(root, (node, self) -> node == null ? 0 : 1 + Math.max(self.apply(node.left), self.apply(node.right)))
+   * );
    * }</pre>
    *
-   * @param value the value
-   * @param <V>   the type of the value
-   * @return new {@link Lazy} instance
+   * @param stackSize the stack size in bytes
+   * @param block     the function block
+   * @param <R>       the type of the result
+   * @return result
+   * @throws NullPointerException     if {@code block} arg is {@code null}
+   * @throws IllegalArgumentException if {@code stackSize} arg is zero or negative
    */
-  public static <V> Lazy<V> lazyOf(final V value) {
-    return value == null
-      ? Cast.unsafe(InitializedLazyOfNull.INSTANCE)
-      : new InitializedLazy<>(value);
+  public static <R> R recurOnLargeStack(final long stackSize,
+                                        final ThSupplier<? extends R, ?> block) {
+    blockArgNotNull(block);
+    if (stackSize <= 0L) { throw new IllegalArgumentException("stackSize arg is zero or negative"); }
+    final Long currentStackSize = LargeStackThreads.STACK_SIZES.get(Thread.currentThread());
+    if (currentStackSize != null && currentStackSize >= stackSize) {
+      return ThSupplier.unchecked(block).get();
+    }
+    final LargeStackCall<R> call = new LargeStackCall<>(block);
+    LargeStackThreads.executor(stackSize).execute(call);
+    return call.await();
   }
 
   /**
-   * Recursion depth.
+   * Performs given function block recursively at a constant stack depth. Calls of the {@code self} consumer are
+   * performed after the block returns, in the call order and before the remaining calls of the previous blocks, so the
+   * traversal order is the same as for {@link #recur1(Object, Th2Consumer)} with {@code self} calls at the end of the
+   * block.
+   *
+   * <pre>{@code
+   * trampoline1(head, (node, self) -> {
+   *   System.out.println(node.value);
+   *   if (node.next != null) {
+   *     self.accept(node.next);
+   *   }
+   * });
+   * }</pre>
+   *
+   * @param initValue the initial value
+   * @param block     the function block
+   * @param <V>       the type of the initial value
+   * @throws NullPointerException if {@code block} arg is {@code null}
    */
-  public interface RecurDepth {
-
-    /**
-     * Returns the current recursion depth.
-     *
-     * @return current recursion depth
-     */
-    int current();
+  public static <V> void trampoline1(final V initValue,
+                                     final Th2Consumer<? super V, ? super ThConsumer<V, ?>, ?> block) {
+    blockArgNotNull(block);
+    final Th2Consumer<? super V, ? super ThConsumer<V, ?>, RuntimeException> unchecked = Th2Consumer.unchecked(block);
+    final TrampolineCalls calls = new TrampolineCalls();
+    final ThConsumer<V, ?> self = Cast.unsafe(calls);
+    unchecked.accept(initValue, self);
+    calls.flush();
+    while (!calls.isEmpty()) {
+      unchecked.accept(calls.poll(), self);
+      calls.flush();
+    }
   }
 
   /**
-   * Deque.
+   * Performs given function block recursively at a constant stack depth and returns accumulator value.
    *
-   * <p>Used in {@code iterate1} methods.</p>
+   * <p>Same as the {@link #trampoline1(Object, Th2Consumer)} method but with an accumulator value.</p>
    *
-   * @param <E> the type of the deque elements
+   * <pre>{@code
+   * List<Integer> result = trampoline1(head, new ArrayList<>(), (node, acc, self) -> {
+   *   acc.add(node.value);
+   *   if (node.next != null) {
+   *     self.accept(node.next);
+   *   }
+   * });
+   * }</pre>
+   *
+   * @param initValue the initial value
+   * @param accValue  the accumulator value
+   * @param block     the function block
+   * @param <V>       the type of the initial value
+   * @param <A>       the type of the accumulator value
+   * @return accumulator value
+   * @throws NullPointerException if {@code block} arg is {@code null}
    */
-  public interface ItrDeque<E> {
-
-    /**
-     * Inserts the specified element at the end of this deque.
-     *
-     * @param element the element
-     * @return given element
-     */
-    E add(E element);
-
-    /**
-     * Inserts the specified element at the end of this deque. Alias for the {@link #add(Object)} method.
-     *
-     * @param element the element
-     * @return given element
-     */
-    E addLast(E element);
-
-    /**
-     * Inserts the specified element at the front of this deque.
-     *
-     * @param element the element
-     * @return given element
-     */
-    E push(E element);
-
-    /**
-     * Inserts the specified element at the front of this deque. Alias for the {@link #push(Object)} method.
-     *
-     * @param element the element
-     * @return given element
-     */
-    E addFirst(E element);
-
-    /**
-     * Returns {@code true} if this deque contains no elements.
-     *
-     * @return {@code true} if this deque contains no elements
-     */
-    boolean isEmpty();
-
-    /**
-     * Returns the number of elements in this deque.
-     *
-     * @return number of elements in this deque
-     */
-    int size();
+  public static <V, A> A trampoline1(final V initValue,
+                                     final A accValue,
+                                     final Th3Consumer<? super V, ? super A, ? super ThConsumer<V, ?>, ?> block) {
+    blockArgNotNull(block);
+    final Th3Consumer<? super V, ? super A, ? super ThConsumer<V, ?>, RuntimeException> unchecked =
+      Th3Consumer.unchecked(block);
+    final TrampolineCalls calls = new TrampolineCalls();
+    final ThConsumer<V, ?> self = Cast.unsafe(calls);
+    unchecked.accept(initValue, accValue, self);
+    calls.flush();
+    while (!calls.isEmpty()) {
+      unchecked.accept(calls.poll(), accValue, self);
+      calls.flush();
+    }
+    return accValue;
   }
 
   /**
-   * Deque of element pairs.
+   * Performs given function block recursively at a constant stack depth.
    *
-   * <p>Used in {@code iterate2} methods.</p>
+   * <p>Same as the {@link #trampoline1(Object, Th2Consumer)} method but for two initial values.</p>
    *
-   * @param <E1> the type of the first element in pair
-   * @param <E2> the type of the second element in pair
+   * @param initValue1 the first initial value
+   * @param initValue2 the second initial value
+   * @param block      the function block
+   * @param <V1>       the type of the first initial value
+   * @param <V2>       the type of the second initial value
+   * @throws NullPointerException if {@code block} arg is {@code null}
    */
-  public interface ItrDeque2<E1, E2> {
+  public static <V1, V2> void trampoline2(final V1 initValue1,
+                                          final V2 initValue2,
+                                          final Th3Consumer<? super V1, ? super V2, ? super Th2Consumer<V1, V2, ?>, ?> block) {
+    blockArgNotNull(block);
+    final Th3Consumer<? super V1, ? super V2, ? super Th2Consumer<V1, V2, ?>, RuntimeException> unchecked =
+      Th3Consumer.unchecked(block);
+    final TrampolineCalls calls = new TrampolineCalls();
+    final Th2Consumer<V1, V2, ?> self = Cast.unsafe(calls);
+    unchecked.accept(initValue1, initValue2, self);
+    calls.flush();
+    while (!calls.isEmpty()) {
+      unchecked.accept(calls.poll(), calls.poll(), self);
+      calls.flush();
+    }
+  }
 
-    /**
-     * Inserts the specified pair of elements at the end of this deque.
-     *
-     * @param element1 the first element in pair
-     * @param element2 the second element in pair
-     */
-    void add(E1 element1,
-             E2 element2);
+  /**
+   * Performs given function block recursively at a constant stack depth and returns result. Calls of the {@code self}
+   * function return a suspended {@link Trampoline} computation instead of the result, results of such computations
+   * are combined via {@link Trampoline#map(ThFunction)} and {@link Trampoline#flatMap(ThFunction)}, both tail and
+   * non-tail recursion are evaluated by a heap-based loop.
+   *
+   * <pre>{@code
+   * Integer sum = trampoline1(head, (node, self) -> {
+   *   if (node.next == null) {
+   *     return Trampoline.done(node.value);
+   *   }
+   *   return self.apply(node.next).map(nextSum -> node.value + nextSum);
+   * });
+   * }</pre>
+   *
+   * @param initValue the initial value
+   * @param block     the function block
+   * @param <V>       the type of the value
+   * @param <R>       the type of the result
+   * @return result
+   * @throws NullPointerException if {@code block} arg is {@code null}
+   */
+  public static <V, R> R trampoline1(final V initValue,
+                                     final Th2Function<? super V, ? super ThFunction<V, Trampoline<R>, ?>, ? extends Trampoline<R>, ?> block) {
+    blockArgNotNull(block);
+    final ThFunction<V, Trampoline<R>, RuntimeException> self = new ThFunction<V, Trampoline<R>, RuntimeException>() {
+      @Override
+      public Trampoline<R> apply(final V v) {
+        return new TrampolineMore<>(() -> block.apply(v, this));
+      }
+    };
+    return self.apply(initValue).result();
+  }
+
+  /**
+   * Performs given function block recursively at a constant stack depth and returns result.
+   *
+   * <p>Same as the {@link #trampoline1(Object, Th2Function)} method but for two initial values.</p>
+   *
+   * @param initValue1 the first initial value
+   * @param initValue2 the second initial value
+   * @param block      the function block
+   * @param <V1>       the type of the first initial value
+   * @param <V2>       the type of the second initial value
+   * @param <R>        the type of the result
+   * @return result
+   * @throws NullPointerException if {@code block} arg is {@code null}
+   */
+  public static <V1, V2, R> R trampoline2(final V1 initValue1,
+                                          final V2 initValue2,
+                                          final Th3Function<? super V1, ? super V2, ? super Th2Function<V1, V2, Trampoline<R>, ?>, ? extends Trampoline<R>, ?> block) {
+    blockArgNotNull(block);
+    final Th2Function<V1, V2, Trampoline<R>, RuntimeException> self =
+      new Th2Function<V1, V2, Trampoline<R>, RuntimeException>() {
+        @Override
+        public Trampoline<R> apply(final V1 v1,
+                                   final V2 v2) {
+          return new TrampolineMore<>(() -> block.apply(v1, v2, this));
+        }
+      };
+    return self.apply(initValue1, initValue2).result();
+  }
+
+  /**
+   * Performs given function block recursively and returns result. Results of the {@code self} function calls are
+   * cached per argument, so each argument is computed once. Exceptions are not cached.
+   *
+   * <pre>{@code
+   * Long result = recurMemo1(90, (n, self) -> {
+   *   if (n < 2) {
+   *     return (long) n;
+   *   }
+   *   return self.apply(n - 1) + self.apply(n - 2);
+   * });
+   * }</pre>
+   *
+   * @param initValue the initial value
+   * @param block     the function block
+   * @param <V>       the type of the value
+   * @param <R>       the type of the result
+   * @return result
+   * @throws NullPointerException if {@code block} arg is {@code null}
+   */
+  public static <V, R> R recurMemo1(final V initValue,
+                                    final Th2Function<? super V, ? super ThFunction<V, R, ?>, ? extends R, ?> block) {
+    blockArgNotNull(block);
+    return recurMemo1(initValue, new RecurMemoTable(false, Integer.MAX_VALUE), block);
+  }
+
+  /**
+   * Performs given function block recursively and returns result. Results of the {@code self} function calls are
+   * cached per argument, results are not cached after the cache reaches the specified size. Exceptions are not cached.
+   *
+   * <p>Same as the {@link #recurMemo1(Object, Th2Function)} method but with bounded cache size.</p>
+   *
+   * @param initValue the initial value
+   * @param maxSize   the maximum number of cached results
+   * @param block     the function block
+   * @param <V>       the type of the value
+   * @param <R>       the type of the result
+   * @return result
+   * @throws NullPointerException     if {@code block} arg is {@code null}
+   * @throws IllegalArgumentException if {@code maxSize} arg is zero or negative
+   */
+  public static <V, R> R recurMemo1(final V initValue,
+                                    final int maxSize,
+                                    final Th2Function<? super V, ? super ThFunction<V, R, ?>, ? extends R, ?> block) {
+    blockArgNotNull(block);
+    maxSizeArgPositive(maxSize);
+    return recurMemo1(initValue, new RecurMemoTable(false, maxSize), block);
+  }
+
+  /**
+   * Performs given function block recursively and returns result. Results of the {@code self} function calls are
+   * cached per pair of arguments, so each pair is computed once. Exceptions are not cached.
+   *
+   * <pre>{@code
+   * Long result = recurMemo2(30, 15, (n, k, self) -> {
+   *   if (k == 0 || k.equals(n)) {
+   *     return 1L;
+   *   }
+   *   return self.apply(n - 1, k - 1) + self.apply(n - 1, k);
+   * });
+   * }</pre>
+   *
+   * @param initValue1 the first initial value
+   * @param initValue2 the second initial value
+   * @param block      the function block
+   * @param <V1>       the type of the first initial value
+   * @param <V2>       the type of the second initial value
+   * @param <R>        the type of the result
+   * @return result
+   * @throws NullPointerException if {@code block} arg is {@code null}
+   */
+  public static <V1, V2, R> R recurMemo2(final V1 initValue1,
+                                         final V2 initValue2,
+                                         final Th3Function<? super V1, ? super V2, ? super Th2Function<V1, V2, R, ?>, ? extends R, ?> block) {
+    blockArgNotNull(block);
+    return recurMemo2(initValue1, initValue2, new RecurMemoTable(true, Integer.MAX_VALUE), block);
+  }
+
+  /**
+   * Performs given function block recursively and returns result. Results of the {@code self} function calls are
+   * cached per pair of arguments, results are not cached after the cache reaches the specified size. Exceptions are
+   * not cached.
+   *
+   * <p>Same as the {@link #recurMemo2(Object, Object, Th3Function)} method but with bounded cache size.</p>
+   *
+   * @param initValue1 the first initial value
+   * @param initValue2 the second initial value
+   * @param maxSize    the maximum number of cached results
+   * @param block      the function block
+   * @param <V1>       the type of the first initial value
+   * @param <V2>       the type of the second initial value
+   * @param <R>        the type of the result
+   * @return result
+   * @throws NullPointerException     if {@code block} arg is {@code null}
+   * @throws IllegalArgumentException if {@code maxSize} arg is zero or negative
+   */
+  public static <V1, V2, R> R recurMemo2(final V1 initValue1,
+                                         final V2 initValue2,
+                                         final int maxSize,
+                                         final Th3Function<? super V1, ? super V2, ? super Th2Function<V1, V2, R, ?>, ? extends R, ?> block) {
+    blockArgNotNull(block);
+    maxSizeArgPositive(maxSize);
+    return recurMemo2(initValue1, initValue2, new RecurMemoTable(true, maxSize), block);
+  }
+
+  /**
+   * Performs given function block recursively in the common {@link ForkJoinPool} and returns result. The
+   * {@code self.fork(value)} call starts the recursive call asynchronously, its result is returned by the
+   * {@code join()} call of the returned object; calls at the depth greater than or equal to {@code forkDepth} are
+   * performed sequentially. The {@code self.apply(value)} call is always performed sequentially. Exceptions are thrown
+   * unchanged.
+   *
+   * <pre>{@code
+   * Integer sum = recurParallel1(tree, 8, (depth, node, self) -> {
+   *   RecurJoin<Integer> left = self.fork(node.left);
+   *   int right = self.apply(node.right);
+   *   return node.value + left.join() + right;
+   * });
+   * }</pre>
+   *
+   * @param initValue the initial value
+   * @param forkDepth the depth from which recursive calls are performed sequentially
+   * @param block     the function block
+   * @param <V>       the type of the value
+   * @param <R>       the type of the result
+   * @return result
+   * @throws NullPointerException     if {@code block} arg is {@code null}
+   * @throws IllegalArgumentException if {@code forkDepth} arg is negative
+   */
+  public static <V, R> R recurParallel1(final V initValue,
+                                        final int forkDepth,
+                                        final Th3Function<? super RecurDepth, ? super V, ? super RecurFork<V, R>, ? extends R, ?> block) {
+    return recurParallel1(initValue, forkDepth, ForkJoinPool.commonPool(), block);
+  }
+
+  /**
+   * Performs given function block recursively in the specified {@link ForkJoinPool} and returns result.
+   *
+   * <p>Same as the {@link #recurParallel1(Object, int, Th3Function)} method but with the specified pool.</p>
+   *
+   * @param initValue the initial value
+   * @param forkDepth the depth from which recursive calls are performed sequentially
+   * @param pool      the fork/join pool
+   * @param block     the function block
+   * @param <V>       the type of the value
+   * @param <R>       the type of the result
+   * @return result
+   * @throws NullPointerException     if {@code pool} arg is {@code null} or {@code block} arg is {@code null}
+   * @throws IllegalArgumentException if {@code forkDepth} arg is negative
+   */
+  public static <V, R> R recurParallel1(final V initValue,
+                                        final int forkDepth,
+                                        final ForkJoinPool pool,
+                                        final Th3Function<? super RecurDepth, ? super V, ? super RecurFork<V, R>, ? extends R, ?> block) {
+    poolArgNotNull(pool);
+    blockArgNotNull(block);
+    if (forkDepth < 0) { throw new IllegalArgumentException("forkDepth arg is negative"); }
+    final RecurForkTask<V, R> task = new RecurForkTask<>(new RecurForkImpl<>(block, forkDepth, 0), initValue);
+    pool.invoke(task);
+    return task.result();
+  }
+
+  private static <V, R> R recurMemo1(final V initValue,
+                                     final RecurMemoTable table,
+                                     final Th2Function<? super V, ? super ThFunction<V, R, ?>, ? extends R, ?> block) {
+    final ThFunction<V, R, RuntimeException> self = new ThFunction<V, R, RuntimeException>() {
+      @Override
+      public R apply(final V v) {
+        final Object cached = table.get(v, null);
+        if (cached != RecurMemoTable.NO_VALUE) {
+          return Cast.unsafe(cached);
+        }
+        final R result = Th2Function.unchecked(block).apply(v, this);
+        table.put(v, null, result);
+        return result;
+      }
+    };
+    return self.apply(initValue);
+  }
+
+  private static <V1, V2, R> R recurMemo2(final V1 initValue1,
+                                          final V2 initValue2,
+                                          final RecurMemoTable table,
+                                          final Th3Function<? super V1, ? super V2, ? super Th2Function<V1, V2, R, ?>, ? extends R, ?> block) {
+    final Th2Function<V1, V2, R, RuntimeException> self = new Th2Function<V1, V2, R, RuntimeException>() {
+      @Override
+      public R apply(final V1 v1,
+                     final V2 v2) {
+        final Object cached = table.get(v1, v2);
+        if (cached != RecurMemoTable.NO_VALUE) {
+          return Cast.unsafe(cached);
+        }
+        final R result = Th3Function.unchecked(block).apply(v1, v2, this);
+        table.put(v1, v2, result);
+        return result;
+      }
+    };
+    return self.apply(initValue1, initValue2);
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance that uses the specified initialization function and the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode. The returned instance uses itself to synchronize
+   * on. On runtimes that support virtual threads the returned instance uses its own {@link ReentrantLock} instead, so
+   * threads waiting for the initialization park and don't pin carrier threads.
+   *
+   * <pre>{@code
+   * Lazy<String> lazyValue = lazy(() -> {
+   *   //...
+   *   return "abc";
+   * });
+   * }</pre>
+   *
+   * @param initializer the value initializer
+   * @param <V>         the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code initializer} arg is null
+   */
+  public static <V> Lazy<V> lazy(final ThSupplier<? extends V, ?> initializer) {
+    initializerArgNotNull(initializer);
+    return synchronizedLazy(initializer);
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance that uses the specified initialization function and the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode. The returned instance uses the specified lock object
+   * to synchronize on.
+   *
+   * <pre>{@code
+   * Object externalLock = new Object();
+   * Lazy<String> lazyValue = lazy(externalLock, () -> {
+   *   //...
+   *   return "abc";
+   * });
+   * }</pre>
+   *
+   * @param lock        the lock object
+   * @param initializer the value initializer
+   * @param <V>         the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code lock} arg is null or {@code initializer} arg is null
+   */
+  public static <V> Lazy<V> lazy(final Object lock,
+                                 final ThSupplier<? extends V, ?> initializer) {
+    lockArgNotNull(lock);
+    initializerArgNotNull(initializer);
+    return new SynchronizedLazy<>(lock, initializer);
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance that uses the specified initialization function and the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode. The returned instance uses the specified
+   * {@link Lock} to guard the initialization, threads waiting for the initialization park and don't pin carrier
+   * threads of virtual threads. A {@link Lock} passed to the {@link #lazy(Object, ThSupplier)} method is used as a
+   * monitor object instead.
+   *
+   * <pre>{@code
+   * Lock lock = new ReentrantLock();
+   * Lazy<String> lazyValue = lazyLock(lock, () -> {
+   *   //...
+   *   return "abc";
+   * });
+   * }</pre>
+   *
+   * @param lock        the lock
+   * @param initializer the value initializer
+   * @param <V>         the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code lock} arg is null or {@code initializer} arg is null
+   */
+  public static <V> Lazy<V> lazyLock(final Lock lock,
+                                     final ThSupplier<? extends V, ?> initializer) {
+    lockArgNotNull(lock);
+    initializerArgNotNull(initializer);
+    return new LockLazy<>(lock, initializer);
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance that uses the specified initialization function and thread-safety mode. For
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} the returned instance uses itself to synchronize on or its own
+   * {@link ReentrantLock} on runtimes that support virtual threads.
+   *
+   * <pre>{@code
+   * Lazy<String> lazyValue = lazy(ThreadSafetyMode.PUBLICATION, () -> {
+   *   //...
+   *   return "abc";
+   * });
+   * }</pre>
+   *
+   * @param threadSafetyMode the thread safety mode
+   * @param initializer      the value initializer
+   * @param <V>              the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code threadSafetyMode} arg is null or {@code initializer} arg is null
+   */
+  public static <V> Lazy<V> lazy(final Lazy.ThreadSafetyMode threadSafetyMode,
+                                 final ThSupplier<? extends V, ?> initializer) {
+    threadSafetyModeArgNotNull(threadSafetyMode);
+    initializerArgNotNull(initializer);
+    switch (threadSafetyMode) {
+      case SYNCHRONIZED:
+        return synchronizedLazy(initializer);
+      case PUBLICATION:
+        return new SafePublicationLazy<>(initializer);
+      case NONE:
+        return new UnsafeLazy<>(initializer);
+      default:
+        throw new Error(); /* unreachable */
+    }
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance that uses the specified initialization function, the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode and the specified failure policy. If the initializer
+   * throws an exception, calls made before the policy delay has elapsed throw this exception without calling the
+   * initializer again. The initialization is guarded by the own {@link ReentrantLock}, so only a single attempt is in
+   * flight at a time.
+   *
+   * <pre>{@code
+   * Lazy<String> lazyValue = lazy(FailurePolicy.retryWithBackoff(Duration.ofSeconds(1), Duration.ofMinutes(1)), () -> {
+   *   //...
+   *   return "abc";
+   * });
+   * }</pre>
+   *
+   * @param failurePolicy the failure policy
+   * @param initializer   the value initializer
+   * @param <V>           the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code failurePolicy} arg is null or {@code initializer} arg is null
+   */
+  public static <V> Lazy<V> lazy(final Lazy.FailurePolicy failurePolicy,
+                                 final ThSupplier<? extends V, ?> initializer) {
+    failurePolicyArgNotNull(failurePolicy);
+    initializerArgNotNull(initializer);
+    return new FailurePolicyLazy<>(failurePolicy, initializer);
+  }
+
+  /**
+   * Returns a new expiring {@link Lazy} instance that uses the specified initialization function. The value is
+   * recomputed by the first {@link Lazy#get()} call made after {@code expireAfterWrite} has elapsed since the value was
+   * written, other threads wait for the recomputation. The initialization is guarded by the own {@link ReentrantLock}.
+   *
+   * <pre>{@code
+   * Lazy<String> lazyValue = lazy(Duration.ofMinutes(5), () -> {
+   *   //...
+   *   return "abc";
+   * });
+   * }</pre>
+   *
+   * @param expireAfterWrite the time after which the value expires
+   * @param initializer      the value initializer
+   * @param <V>              the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException     if {@code expireAfterWrite} arg is null or {@code initializer} arg is null
+   * @throws IllegalArgumentException if {@code expireAfterWrite} arg is zero or negative
+   */
+  public static <V> Lazy<V> lazy(final Duration expireAfterWrite,
+                                 final ThSupplier<? extends V, ?> initializer) {
+    expireAfterWriteArgNotNull(expireAfterWrite);
+    initializerArgNotNull(initializer);
+    durationArgPositive(expireAfterWrite, "expireAfterWrite");
+    return new ExpiringLazy<>(nanosOf(expireAfterWrite), -1L, null, initializer);
+  }
+
+  /**
+   * Returns a new expiring {@link Lazy} instance that uses the specified initialization function and refreshes the
+   * value ahead of its expiration. The first {@link Lazy#get()} call made after {@code refreshAfterWrite} has elapsed
+   * since the value was written submits a refresh to the specified executor, until the refresh completes all callers
+   * keep getting the current value without waiting. Only one refresh is in flight at a time, a failed refresh is
+   * ignored and retried by the next call. The value is recomputed synchronously by the first {@link Lazy#get()} call
+   * made after {@code expireAfterWrite} has elapsed since the value was written, other threads wait for the
+   * recomputation.
+   *
+   * <pre>{@code
+   * Lazy<String> lazyValue = lazy(Duration.ofMinutes(5), Duration.ofMinutes(4), executor, () -> {
+   *   //...
+   *   return "abc";
+   * });
+   * }</pre>
+   *
+   * @param expireAfterWrite  the time after which the value expires
+   * @param refreshAfterWrite the time after which the value is refreshed in the background
+   * @param executor          the executor for background refreshes
+   * @param initializer       the value initializer
+   * @param <V>               the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException     if {@code expireAfterWrite} arg is null or {@code refreshAfterWrite} arg is null
+   *                                  or {@code executor} arg is null or {@code initializer} arg is null
+   * @throws IllegalArgumentException if {@code expireAfterWrite} arg is zero or negative or {@code refreshAfterWrite}
+   *                                  arg is zero or negative or {@code refreshAfterWrite} arg is not less than
+   *                                  {@code expireAfterWrite} arg
+   */
+  public static <V> Lazy<V> lazy(final Duration expireAfterWrite,
+                                 final Duration refreshAfterWrite,
+                                 final Executor executor,
+                                 final ThSupplier<? extends V, ?> initializer) {
+    expireAfterWriteArgNotNull(expireAfterWrite);
+    refreshAfterWriteArgNotNull(refreshAfterWrite);
+    executorArgNotNull(executor);
+    initializerArgNotNull(initializer);
+    durationArgPositive(expireAfterWrite, "expireAfterWrite");
+    durationArgPositive(refreshAfterWrite, "refreshAfterWrite");
+    if (refreshAfterWrite.compareTo(expireAfterWrite) >= 0) {
+      throw new IllegalArgumentException("refreshAfterWrite arg is not less than expireAfterWrite arg");
+    }
+    return new ExpiringLazy<>(nanosOf(expireAfterWrite), nanosOf(refreshAfterWrite), executor, initializer);
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance that is already initialized with the specified value.
+   *
+   * <pre>{@code
+   * Lazy<String> lazyValue4 = lazyOf("abc");
+   * }</pre>
+   *
+   * @param value the value
+   * @param <V>   the type of the value
+   * @return new {@link Lazy} instance
+   */
+  public static <V> Lazy<V> lazyOf(final V value) {
+    return value == null
+      ? Cast.unsafe(InitializedLazyOfNull.INSTANCE)
+      : new InitializedLazy<>(value);
+  }
+
+  /**
+   * Returns a new {@link AsyncLazy} instance that uses the specified initialization function. The initializer is run
+   * exactly once on the specified executor by the first {@link AsyncLazy#getAsync()} or {@link AsyncLazy#get()} call,
+   * all concurrent waiters are completed through the same internal {@link CompletableFuture}. Each
+   * {@link AsyncLazy#getAsync()} call returns a new dependent future, so completing or cancelling it does not affect
+   * the value. If the initializer throws an exception, the future is completed exceptionally with this exception.
+   *
+   * <pre>{@code
+   * AsyncLazy<String> lazyValue = lazyAsync(() -> {
+   *   //...
+   *   return "abc";
+   * }, executor);
+   * lazyValue.getAsync().thenAccept(value -> {
+   *   //...
+   * });
+   * }</pre>
+   *
+   * @param initializer the value initializer
+   * @param executor    the executor for the initialization
+   * @param <V>         the type of the value
+   * @return new {@link AsyncLazy} instance
+   * @throws NullPointerException if {@code initializer} arg is null or {@code executor} arg is null
+   */
+  public static <V> AsyncLazy<V> lazyAsync(final ThSupplier<? extends V, ?> initializer,
+                                           final Executor executor) {
+    initializerArgNotNull(initializer);
+    executorArgNotNull(executor);
+    return new ExecutorAsyncLazy<>(initializer, executor);
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance that uses the specified initialization function and holds the value through a
+   * {@link SoftReference}. The garbage collector may reclaim the value under memory pressure, the next
+   * {@link Lazy#get()} call recomputes it with the same initializer. The initialization is guarded by the own
+   * {@link ReentrantLock}.
+   *
+   * <pre>{@code
+   * Lazy<Map<String, String>> lazyValue = lazySoft(() -> {
+   *   //...
+   *   return loadLookupTable();
+   * });
+   * }</pre>
+   *
+   * @param initializer the value initializer
+   * @param <V>         the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code initializer} arg is null
+   */
+  public static <V> Lazy<V> lazySoft(final ThSupplier<? extends V, ?> initializer) {
+    initializerArgNotNull(initializer);
+    return new SoftLazy<>(initializer);
+  }
+
+  /**
+   * Returns a new {@link ResettableLazy} instance that uses the specified initialization function and the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode.
+   *
+   * <pre>{@code
+   * ResettableLazy<Config> lazyValue = lazyResettable(() -> {
+   *   //...
+   *   return loadConfig();
+   * });
+   * lazyValue.invalidate();
+   * }</pre>
+   *
+   * @param initializer the value initializer
+   * @param <V>         the type of the value
+   * @return new {@link ResettableLazy} instance
+   * @throws NullPointerException if {@code initializer} arg is null
+   * @see #lazyResettable(Lazy.ThreadSafetyMode, ThSupplier)
+   */
+  public static <V> ResettableLazy<V> lazyResettable(final ThSupplier<? extends V, ?> initializer) {
+    initializerArgNotNull(initializer);
+    return new ResettableLazyImpl<>(new ReentrantLock(), initializer);
+  }
+
+  /**
+   * Returns a new {@link ResettableLazy} instance that uses the specified initialization function and thread-safety
+   * mode. For {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} only a single thread recomputes the value, other threads keep
+   * getting the previous value and wait only if there is no value yet. For {@link Lazy.ThreadSafetyMode#PUBLICATION}
+   * and {@link Lazy.ThreadSafetyMode#NONE} the value can be computed several times on concurrent access, the first
+   * published value is used. Values are published safely in all modes.
+   *
+   * <pre>{@code
+   * ResettableLazy<Config> lazyValue = lazyResettable(ThreadSafetyMode.PUBLICATION, () -> {
+   *   //...
+   *   return loadConfig();
+   * });
+   * Config config = lazyValue.refresh();
+   * }</pre>
+   *
+   * @param threadSafetyMode the thread safety mode
+   * @param initializer      the value initializer
+   * @param <V>              the type of the value
+   * @return new {@link ResettableLazy} instance
+   * @throws NullPointerException if {@code threadSafetyMode} arg is null or {@code initializer} arg is null
+   */
+  public static <V> ResettableLazy<V> lazyResettable(final Lazy.ThreadSafetyMode threadSafetyMode,
+                                                     final ThSupplier<? extends V, ?> initializer) {
+    threadSafetyModeArgNotNull(threadSafetyMode);
+    initializerArgNotNull(initializer);
+    return new ResettableLazyImpl<>(
+      threadSafetyMode == Lazy.ThreadSafetyMode.SYNCHRONIZED ? new ReentrantLock() : null,
+      initializer
+    );
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance that holds a separate value for each thread. The initializer is called once per
+   * thread on the first {@link Lazy#get()} call in this thread, {@link Lazy#isInitialized()} reports the state for the
+   * current thread. Suitable for non-thread-safe objects. Values of terminated threads are reused by threads calling
+   * {@link Lazy#get()} for the first time once these values are reclaimed, so short-lived threads, such as virtual
+   * threads, do not call the initializer more often than the number of concurrently alive threads requires.
+   *
+   * <pre>{@code
+   * Lazy<MessageDigest> lazyDigest = lazyThreadLocal(() -> MessageDigest.getInstance("SHA-256"));
+   * }</pre>
+   *
+   * @param initializer the value initializer
+   * @param <V>         the type of the value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code initializer} arg is null
+   */
+  public static <V> Lazy<V> lazyThreadLocal(final ThSupplier<? extends V, ?> initializer) {
+    initializerArgNotNull(initializer);
+    return new ThreadLocalLazy<>(initializer);
+  }
+
+  /**
+   * Returns a new empty {@link LazyGroup} instance.
+   *
+   * <pre>{@code
+   * Map<String, Duration> initTimes = lazyGroup()
+   *   .add("config", lazyConfig)
+   *   .add("client", lazyClient, "config")
+   *   .add("cache", lazyCache, "config", "client")
+   *   .initialize(executor);
+   * }</pre>
+   *
+   * @return new {@link LazyGroup} instance
+   */
+  public static LazyGroup lazyGroup() {
+    return new LazyGroupImpl();
+  }
+
+  /**
+   * Returns a new {@link LazyInt} instance that uses the specified initialization function and the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode. The value is stored unboxed.
+   *
+   * <pre>{@code
+   * LazyInt lazyValue = lazyInt(() -> {
+   *   //...
+   *   return 1;
+   * });
+   * }</pre>
+   *
+   * @param initializer the value initializer
+   * @return new {@link LazyInt} instance
+   * @throws NullPointerException if {@code initializer} arg is null
+   */
+  public static LazyInt lazyInt(final ThSupplierInt<?> initializer) {
+    initializerArgNotNull(initializer);
+    return new LazyIntImpl(Lazy.ThreadSafetyMode.SYNCHRONIZED, initializer);
+  }
+
+  /**
+   * Returns a new {@link LazyInt} instance that uses the specified initialization function and thread-safety mode. The
+   * value is stored unboxed.
+   *
+   * <pre>{@code
+   * LazyInt lazyValue = lazyInt(ThreadSafetyMode.PUBLICATION, () -> {
+   *   //...
+   *   return 1;
+   * });
+   * }</pre>
+   *
+   * @param threadSafetyMode the thread safety mode
+   * @param initializer      the value initializer
+   * @return new {@link LazyInt} instance
+   * @throws NullPointerException if {@code threadSafetyMode} arg is null or {@code initializer} arg is null
+   */
+  public static LazyInt lazyInt(final Lazy.ThreadSafetyMode threadSafetyMode,
+                                final ThSupplierInt<?> initializer) {
+    threadSafetyModeArgNotNull(threadSafetyMode);
+    initializerArgNotNull(initializer);
+    return new LazyIntImpl(threadSafetyMode, initializer);
+  }
+
+  /**
+   * Returns a new {@link LazyLong} instance that uses the specified initialization function and the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode. The value is stored unboxed.
+   *
+   * <pre>{@code
+   * LazyLong lazyValue = lazyLong(() -> {
+   *   //...
+   *   return 1;
+   * });
+   * }</pre>
+   *
+   * @param initializer the value initializer
+   * @return new {@link LazyLong} instance
+   * @throws NullPointerException if {@code initializer} arg is null
+   */
+  public static LazyLong lazyLong(final ThSupplierLong<?> initializer) {
+    initializerArgNotNull(initializer);
+    return new LazyLongImpl(Lazy.ThreadSafetyMode.SYNCHRONIZED, initializer);
+  }
+
+  /**
+   * Returns a new {@link LazyLong} instance that uses the specified initialization function and thread-safety mode. The
+   * value is stored unboxed.
+   *
+   * <pre>{@code
+   * LazyLong lazyValue = lazyLong(ThreadSafetyMode.PUBLICATION, () -> {
+   *   //...
+   *   return 1;
+   * });
+   * }</pre>
+   *
+   * @param threadSafetyMode the thread safety mode
+   * @param initializer      the value initializer
+   * @return new {@link LazyLong} instance
+   * @throws NullPointerException if {@code threadSafetyMode} arg is null or {@code initializer} arg is null
+   */
+  public static LazyLong lazyLong(final Lazy.ThreadSafetyMode threadSafetyMode,
+                                  final ThSupplierLong<?> initializer) {
+    threadSafetyModeArgNotNull(threadSafetyMode);
+    initializerArgNotNull(initializer);
+    return new LazyLongImpl(threadSafetyMode, initializer);
+  }
+
+  /**
+   * Returns a new {@link LazyDouble} instance that uses the specified initialization function and the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode. The value is stored unboxed.
+   *
+   * <pre>{@code
+   * LazyDouble lazyValue = lazyDouble(() -> {
+   *   //...
+   *   return 1;
+   * });
+   * }</pre>
+   *
+   * @param initializer the value initializer
+   * @return new {@link LazyDouble} instance
+   * @throws NullPointerException if {@code initializer} arg is null
+   */
+  public static LazyDouble lazyDouble(final ThSupplierDouble<?> initializer) {
+    initializerArgNotNull(initializer);
+    return new LazyDoubleImpl(Lazy.ThreadSafetyMode.SYNCHRONIZED, initializer);
+  }
+
+  /**
+   * Returns a new {@link LazyDouble} instance that uses the specified initialization function and thread-safety mode. The
+   * value is stored unboxed.
+   *
+   * <pre>{@code
+   * LazyDouble lazyValue = lazyDouble(ThreadSafetyMode.PUBLICATION, () -> {
+   *   //...
+   *   return 1;
+   * });
+   * }</pre>
+   *
+   * @param threadSafetyMode the thread safety mode
+   * @param initializer      the value initializer
+   * @return new {@link LazyDouble} instance
+   * @throws NullPointerException if {@code threadSafetyMode} arg is null or {@code initializer} arg is null
+   */
+  public static LazyDouble lazyDouble(final Lazy.ThreadSafetyMode threadSafetyMode,
+                                      final ThSupplierDouble<?> initializer) {
+    threadSafetyModeArgNotNull(threadSafetyMode);
+    initializerArgNotNull(initializer);
+    return new LazyDoubleImpl(threadSafetyMode, initializer);
+  }
+
+  /**
+   * Returns a memoized version of the specified function. Results are cached in a bounded concurrent cache with a
+   * segmented LRU eviction policy, cached results are read without locks. Exceptions thrown by the function are not
+   * cached.
+   *
+   * <pre>{@code
+   * MemoizedFunction<String, Integer> memoized = memoize(str -> {
+   *   //...
+   *   return str.length();
+   * }, 1000);
+   * int length = memoized.apply("abc");
+   * }</pre>
+   *
+   * @param function the function
+   * @param maxSize  the maximum number of cached results
+   * @param <T>      the type of the input argument
+   * @param <R>      the type of the result
+   * @return memoized function
+   * @throws NullPointerException     if {@code function} arg is null
+   * @throws IllegalArgumentException if {@code maxSize} arg is zero or negative
+   */
+  public static <T, R> MemoizedFunction<T, R> memoize(final ThFunction<? super T, ? extends R, ?> function,
+                                                      final int maxSize) {
+    functionArgNotNull(function);
+    maxSizeArgPositive(maxSize);
+    return new Memoized1<>(function, maxSize);
+  }
+
+  /**
+   * Returns a memoized version of the specified function. Results are cached by the composite key of both arguments in
+   * a bounded concurrent cache with a segmented LRU eviction policy, cached results are read without locks. Exceptions
+   * thrown by the function are not cached.
+   *
+   * <pre>{@code
+   * Memoized2Function<String, String, String> memoized = memoize((str1, str2) -> {
+   *   //...
+   *   return str1 + str2;
+   * }, 1000);
+   * String result = memoized.apply("abc", "xyz");
+   * }</pre>
+   *
+   * @param function the function
+   * @param maxSize  the maximum number of cached results
+   * @param <T1>     the type of the first input argument
+   * @param <T2>     the type of the second input argument
+   * @param <R>      the type of the result
+   * @return memoized function
+   * @throws NullPointerException     if {@code function} arg is null
+   * @throws IllegalArgumentException if {@code maxSize} arg is zero or negative
+   */
+  public static <T1, T2, R> Memoized2Function<T1, T2, R> memoize(final Th2Function<? super T1, ? super T2, ? extends R, ?> function,
+                                                                 final int maxSize) {
+    functionArgNotNull(function);
+    maxSizeArgPositive(maxSize);
+    return new Memoized2<>(function, maxSize);
+  }
+
+  /**
+   * Returns a memoized version of the specified function. Results are cached by the composite key of all arguments in
+   * a bounded concurrent cache with a segmented LRU eviction policy, cached results are read without locks. Exceptions
+   * thrown by the function are not cached.
+   *
+   * <pre>{@code
+   * Memoized3Function<String, String, String, String> memoized = memoize((str1, str2, str3) -> {
+   *   //...
+   *   return str1 + str2 + str3;
+   * }, 1000);
+   * String result = memoized.apply("abc", "xyz", "123");
+   * }</pre>
+   *
+   * @param function the function
+   * @param maxSize  the maximum number of cached results
+   * @param <T1>     the type of the first input argument
+   * @param <T2>     the type of the second input argument
+   * @param <T3>     the type of the third input argument
+   * @param <R>      the type of the result
+   * @return memoized function
+   * @throws NullPointerException     if {@code function} arg is null
+   * @throws IllegalArgumentException if {@code maxSize} arg is zero or negative
+   */
+  public static <T1, T2, T3, R> Memoized3Function<T1, T2, T3, R> memoize(final Th3Function<? super T1, ? super T2, ? super T3, ? extends R, ?> function,
+                                                                         final int maxSize) {
+    functionArgNotNull(function);
+    maxSizeArgPositive(maxSize);
+    return new Memoized3<>(function, maxSize);
+  }
+
+  /**
+   * Recursion depth.
+   */
+  public interface RecurDepth {
+
+    /**
+     * Returns the current recursion depth.
+     *
+     * @return current recursion depth
+     */
+    int current();
+  }
+
+  /**
+   * Recursive function that can be performed asynchronously.
+   *
+   * <p>Used in {@code recurParallel} methods.</p>
+   *
+   * @param <V> the type of the value
+   * @param <R> the type of the result
+   */
+  public interface RecurFork<V, R> {
+
+    /**
+     * Performs the recursive call in the current thread and returns result.
+     *
+     * @param value the value
+     * @return result
+     */
+    R apply(V value);
+
+    /**
+     * Starts the recursive call asynchronously. Exceptions of the recursive call are thrown by {@link RecurJoin#join()},
+     * even if the call is performed in the current thread.
+     *
+     * @param value the value
+     * @return object to obtain the result
+     */
+    RecurJoin<R> fork(V value);
+  }
+
+  /**
+   * Result of the recursive call started by {@link RecurFork#fork(Object)}.
+   *
+   * <p>Used in {@code recurParallel} methods.</p>
+   *
+   * @param <R> the type of the result
+   */
+  public interface RecurJoin<R> {
+
+    /**
+     * Waits for the recursive call and returns result. Exceptions of the recursive call are thrown unchanged.
+     *
+     * @return result
+     */
+    R join();
+  }
+
+  /**
+   * Suspended computation evaluated at a constant stack depth.
+   *
+   * <p>Used in {@code trampoline} methods.</p>
+   *
+   * @param <R> the type of the result
+   */
+  public abstract static class Trampoline<R> {
+
+    private Trampoline() {
+    }
+
+    /**
+     * Returns a computation completed with the specified value.
+     *
+     * @param value the value
+     * @param <R>   the type of the result
+     * @return completed computation
+     */
+    public static <R> Trampoline<R> done(final R value) {
+      return new TrampolineDone<>(value);
+    }
+
+    /**
+     * Returns a computation that continues with the computation returned by the specified supplier.
+     *
+     * @param next the next computation supplier
+     * @param <R>  the type of the result
+     * @return suspended computation
+     * @throws NullPointerException if {@code next} arg is {@code null}
+     */
+    public static <R> Trampoline<R> more(final ThSupplier<? extends Trampoline<R>, ?> next) {
+      if (next == null) { throw new NullPointerException("next arg is null"); }
+      return new TrampolineMore<>(next);
+    }
+
+    /**
+     * Returns a computation that applies the specified function to the result of this computation.
+     *
+     * @param function the function
+     * @param <U>      the type of the new result
+     * @return mapped computation
+     * @throws NullPointerException if {@code function} arg is {@code null}
+     */
+    public final <U> Trampoline<U> map(final ThFunction<? super R, ? extends U, ?> function) {
+      functionArgNotNull(function);
+      return new TrampolineFlatMap<>(this, value -> new TrampolineDone<>(function.apply(value)));
+    }
+
+    /**
+     * Returns a computation that continues with the computation returned by the specified function for the result of
+     * this computation.
+     *
+     * @param function the function
+     * @param <U>      the type of the new result
+     * @return mapped computation
+     * @throws NullPointerException if {@code function} arg is {@code null}
+     */
+    public final <U> Trampoline<U> flatMap(final ThFunction<? super R, ? extends Trampoline<U>, ?> function) {
+      functionArgNotNull(function);
+      return new TrampolineFlatMap<>(this, function);
+    }
+
+    /**
+     * Evaluates this computation and returns the result. Exceptions of the computation functions are thrown unchanged.
+     *
+     * @return result
+     * @throws NullPointerException if a computation function returned {@code null}
+     */
+    public final R result() {
+      Trampoline<?> current = this;
+      Deque<ThFunction<Object, ? extends Trampoline<?>, ?>> continuations = null;
+      while (true) {
+        if (current instanceof TrampolineMore) {
+          current = ThSupplier.unchecked(((TrampolineMore<?>) current).next).get();
+        } else if (current instanceof TrampolineFlatMap) {
+          final TrampolineFlatMap<?, ?> flatMap = (TrampolineFlatMap<?, ?>) current;
+          if (continuations == null) {
+            continuations = new ArrayDeque<>();
+          }
+          continuations.push(Cast.unsafe(flatMap.function));
+          current = flatMap.source;
+        } else if (current instanceof TrampolineDone) {
+          final Object value = ((TrampolineDone<?>) current).value;
+          if (continuations == null || continuations.isEmpty()) {
+            return Cast.unsafe(value);
+          }
+          current = ThFunction.unchecked(continuations.pop()).apply(value);
+        } else {
+          throw new NullPointerException("trampoline computation is null");
+        }
+      }
+    }
+  }
+
+  /**
+   * Deque.
+   *
+   * <p>Used in {@code iterate1} methods.</p>
+   *
+   * @param <E> the type of the deque elements
+   */
+  public interface ItrDeque<E> {
+
+    /**
+     * Inserts the specified element at the end of this deque.
+     *
+     * @param element the element
+     * @return given element
+     */
+    E add(E element);
+
+    /**
+     * Inserts the specified element at the end of this deque. Alias for the {@link #add(Object)} method.
+     *
+     * @param element the element
+     * @return given element
+     */
+    E addLast(E element);
+
+    /**
+     * Inserts the specified element at the front of this deque.
+     *
+     * @param element the element
+     * @return given element
+     */
+    E push(E element);
+
+    /**
+     * Inserts the specified element at the front of this deque. Alias for the {@link #push(Object)} method.
+     *
+     * @param element the element
+     * @return given element
+     */
+    E addFirst(E element);
+
+    /**
+     * Returns {@code true} if this deque contains no elements.
+     *
+     * @return {@code true} if this deque contains no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this deque.
+     *
+     * @return number of elements in this deque
+     */
+    int size();
+  }
+
+  /**
+   * Deque of element pairs.
+   *
+   * <p>Used in {@code iterate2} methods.</p>
+   *
+   * @param <E1> the type of the first element in pair
+   * @param <E2> the type of the second element in pair
+   */
+  public interface ItrDeque2<E1, E2> {
+
+    /**
+     * Inserts the specified pair of elements at the end of this deque.
+     *
+     * @param element1 the first element in pair
+     * @param element2 the second element in pair
+     */
+    void add(E1 element1,
+             E2 element2);
+
+    /**
+     * Inserts the specified pair of elements at the end of this deque. Alias for the {@link #add(Object, Object)}
+     * method.
+     *
+     * @param element1 the first element in pair
+     * @param element2 the second element in pair
+     */
+    void addLast(E1 element1,
+                 E2 element2);
+
+    /**
+     * Inserts the specified pair of elements at the front of this deque.
+     *
+     * @param element1 the first element in pair
+     * @param element2 the second element in pair
+     */
+    void push(E1 element1,
+              E2 element2);
+
+    /**
+     * Inserts the specified pair of elements at the front of this deque. Alias for the {@link #push(Object, Object)}
+     * method.
+     *
+     * @param element1 the first element in pair
+     * @param element2 the second element in pair
+     */
+    void addFirst(E1 element1,
+                  E2 element2);
+
+    /**
+     * Returns {@code true} if this deque contains no elements.
+     *
+     * @return {@code true} if this deque contains no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of element pairs in this deque.
+     *
+     * @return number of element pairs in this deque
+     */
+    int size();
+  }
+
+  /**
+   * Deque of element triples.
+   *
+   * <p>Used in {@code iterate3} methods.</p>
+   *
+   * @param <E1> the type of the first element in triple
+   * @param <E2> the type of the second element in triple
+   * @param <E3> the type of the third element in triple
+   */
+  public interface ItrDeque3<E1, E2, E3> {
+
+    /**
+     * Inserts the specified triple of elements at the end of this deque.
+     *
+     * @param element1 the first element in triple
+     * @param element2 the second element in triple
+     * @param element3 the third element in triple
+     */
+    void add(E1 element1,
+             E2 element2,
+             E3 element3);
+
+    /**
+     * Inserts the specified triple of elements at the end of this deque. Alias for the
+     * {@link #add(Object, Object, Object)} method.
+     *
+     * @param element1 the first element in triple
+     * @param element2 the second element in triple
+     * @param element3 the third element in triple
+     */
+    void addLast(E1 element1,
+                 E2 element2,
+                 E3 element3);
+
+    /**
+     * Inserts the specified triple of elements at the front of this deque.
+     *
+     * @param element1 the first element in triple
+     * @param element2 the second element in triple
+     * @param element3 the third element in triple
+     */
+    void push(E1 element1,
+              E2 element2,
+              E3 element3);
+
+    /**
+     * Inserts the specified triple of elements at the front of this deque. Alias for the
+     * {@link #push(Object, Object, Object)} method.
+     *
+     * @param element1 the first element in triple
+     * @param element2 the second element in triple
+     * @param element3 the third element in triple
+     */
+    void addFirst(E1 element1,
+                  E2 element2,
+                  E3 element3);
+
+    /**
+     * Returns {@code true} if this deque contains no elements.
+     *
+     * @return {@code true} if this deque contains no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of element triples in this deque.
+     *
+     * @return number of element triples in this deque
+     */
+    int size();
+  }
+
+  /**
+   * Deque that stores {@link AutoCloseable} resources.
+   *
+   * <p>Used in {@code use} methods.</p>
+   */
+  public interface ResourceDeque {
+
+    /**
+     * Inserts the specified resource at the end of this deque.
+     *
+     * @param resource the {@link AutoCloseable} resource
+     * @param <R>      the type of the resource
+     * @return given resource
+     * @throws NullPointerException if {@code resource} arg is {@code null}
+     */
+    <R extends AutoCloseable> R add(R resource);
+
+    /**
+     * Inserts the specified resource at the end of this deque. Alias for the {@link #add(AutoCloseable)} method.
+     *
+     * @param resource the {@link AutoCloseable} resource
+     * @param <R>      the type of the resource
+     * @return given resource
+     * @throws NullPointerException if {@code resource} arg is {@code null}
+     */
+    <R extends AutoCloseable> R addLast(R resource);
+
+    /**
+     * Inserts the specified resource at the front of this deque.
+     *
+     * @param resource the {@link AutoCloseable} resource
+     * @param <R>      the type of the resource
+     * @return given resource
+     * @throws NullPointerException if {@code resource} arg is {@code null}
+     */
+    <R extends AutoCloseable> R push(R resource);
+
+    /**
+     * Inserts the specified resource at the front of this deque. Alias for the {@link #push(AutoCloseable)} method.
+     *
+     * @param resource the {@link AutoCloseable} resource
+     * @param <R>      the type of the resource
+     * @return given resource
+     * @throws NullPointerException if {@code resource} arg is {@code null}
+     */
+    <R extends AutoCloseable> R addFirst(R resource);
+
+    /**
+     * Returns {@code true} if this deque contains no elements.
+     *
+     * @return {@code true} if this deque contains no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this deque.
+     *
+     * @return number of elements in this deque
+     */
+    int size();
+  }
+
+  /* private area */
+
+  private static final Object UNINITIALIZED_VALUE = new Object();
+  private static final int PRIMITIVE_UNINITIALIZED = 0;
+  private static final int PRIMITIVE_PUBLISHING = 1;
+  private static final int PRIMITIVE_INITIALIZED = 2;
+  private static final Object NULL_REPLACEMENT = new Object();
+
+  private static Object wrapNull(final Object obj) {
+    return obj == null ? NULL_REPLACEMENT : obj;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T unwrapNull(final Object obj) {
+    return obj == NULL_REPLACEMENT ? null : (T) obj;
+  }
+
+  private static Throwable closeResource(final AutoCloseable resource,
+                                         Throwable mainEx) {
+    try {
+      resource.close();
+    } catch (final Throwable ex) {
+      if (mainEx == null) {
+        mainEx = ex;
+      } else {
+        mainEx.addSuppressed(ex);
+      }
+    }
+    return mainEx;
+  }
+
+  private static void blockArgNotNull(final Object block) {
+    if (block == null) { throw new NullPointerException("block arg is null"); }
+  }
+
+  private static void poolArgNotNull(final Object pool) {
+    if (pool == null) { throw new NullPointerException("pool arg is null"); }
+  }
+
+  private static void resourceArgNotNull(final Object resource) {
+    if (resource == null) { throw new NullPointerException("resource arg is null"); }
+  }
+
+  private static void resource1ArgNotNull(final Object resource1) {
+    if (resource1 == null) { throw new NullPointerException("resource1 arg is null"); }
+  }
+
+  private static void resource2ArgNotNull(final Object resource2) {
+    if (resource2 == null) { throw new NullPointerException("resource2 arg is null"); }
+  }
+
+  private static void resource3ArgNotNull(final Object resource3) {
+    if (resource3 == null) { throw new NullPointerException("resource3 arg is null"); }
+  }
+
+  private static void arrayArgNotNull(final Object array) {
+    if (array == null) { throw new NullPointerException("array arg is null"); }
+  }
+
+  private static void iterableArgNotNull(final Object iterable) {
+    if (iterable == null) { throw new NullPointerException("iterable arg is null"); }
+  }
+
+  private static void iteratorArgNotNull(final Object iterator) {
+    if (iterator == null) { throw new NullPointerException("iterator arg is null"); }
+  }
+
+  private static void mapArgNotNull(final Object map) {
+    if (map == null) { throw new NullPointerException("map arg is null"); }
+  }
+
+  private static void initializerArgNotNull(final Object initializer) {
+    if (initializer == null) { throw new NullPointerException("initializer arg is null"); }
+  }
+
+  private static void threadSafetyModeArgNotNull(final Object threadSafetyMode) {
+    if (threadSafetyMode == null) { throw new NullPointerException("threadSafetyMode arg is null"); }
+  }
+
+  private static void lockArgNotNull(final Object lock) {
+    if (lock == null) { throw new NullPointerException("lock arg is null"); }
+  }
+
+  private static void functionArgNotNull(final Object function) {
+    if (function == null) { throw new NullPointerException("function arg is null"); }
+  }
+
+  private static void maxSizeArgPositive(final int maxSize) {
+    if (maxSize <= 0) { throw new IllegalArgumentException("maxSize arg is zero or negative"); }
+  }
+
+  private static void failurePolicyArgNotNull(final Object failurePolicy) {
+    if (failurePolicy == null) { throw new NullPointerException("failurePolicy arg is null"); }
+  }
+
+  private static void timeoutArgNotNull(final Object timeout) {
+    if (timeout == null) { throw new NullPointerException("timeout arg is null"); }
+  }
+
+  private static void expireAfterWriteArgNotNull(final Object expireAfterWrite) {
+    if (expireAfterWrite == null) { throw new NullPointerException("expireAfterWrite arg is null"); }
+  }
+
+  private static void refreshAfterWriteArgNotNull(final Object refreshAfterWrite) {
+    if (refreshAfterWrite == null) { throw new NullPointerException("refreshAfterWrite arg is null"); }
+  }
+
+  private static void executorArgNotNull(final Object executor) {
+    if (executor == null) { throw new NullPointerException("executor arg is null"); }
+  }
+
+  private static void durationArgPositive(final Duration duration,
+                                          final String argName) {
+    if (duration.isNegative() || duration.isZero()) {
+      throw new IllegalArgumentException(argName + " arg is zero or negative");
+    }
+  }
+
+  private static long nanosOf(final Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (final ArithmeticException ex) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private static <V> Lazy<V> synchronizedLazy(final ThSupplier<? extends V, ?> initializer) {
+    return Platform.virtualThreadsSupported()
+      ? new LockLazy<>(new ReentrantLock(), initializer)
+      : new SynchronizedLazy<>(initializer);
+  }
+
+  /**
+   * Returns {@code true} if the specified instance was created by {@link #lazyOf(Object)}.
+   *
+   * @param lazy the Lazy instance
+   * @return {@code true} if the specified instance was created by {@link #lazyOf(Object)}, and {@code false} otherwise
+   */
+  static boolean isLazyOf(final Lazy<?> lazy) {
+    return lazy instanceof InitializedLazy || lazy instanceof InitializedLazyOfNull;
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance with the same thread-safety mode as the specified parent instance. Instances
+   * synchronized on an external lock object share this lock object, other implementations get the
+   * {@link Lazy.ThreadSafetyMode#SYNCHRONIZED} thread-safety mode.
+   *
+   * @param parent      the parent Lazy instance
+   * @param initializer the value initializer
+   * @param <V>         the type of the value
+   * @return new {@link Lazy} instance
+   */
+  static <V> Lazy<V> derivedLazy(final Lazy<?> parent,
+                                 final ThSupplier<? extends V, ?> initializer) {
+    if (parent instanceof UnsafeLazy) {
+      return new UnsafeLazy<>(initializer);
+    }
+    if (parent instanceof SafePublicationLazy) {
+      return new SafePublicationLazy<>(initializer);
+    }
+    if (parent instanceof SynchronizedLazy && ((SynchronizedLazy<?>) parent).lock != parent) {
+      return new SynchronizedLazy<>(((SynchronizedLazy<?>) parent).lock, initializer);
+    }
+    return synchronizedLazy(initializer);
+  }
+
+  private static final class RecurDepthImpl implements RecurDepth {
+    private int current = 0;
+
+    private RecurDepthImpl() {
+    }
+
+    @Override
+    public int current() {
+      return this.current;
+    }
+  }
+
+  private static final class TrampolineDone<R> extends Trampoline<R> {
+    private final R value;
+
+    private TrampolineDone(final R value) {
+      this.value = value;
+    }
+  }
+
+  private static final class TrampolineMore<R> extends Trampoline<R> {
+    private final ThSupplier<? extends Trampoline<R>, ?> next;
+
+    private TrampolineMore(final ThSupplier<? extends Trampoline<R>, ?> next) {
+      this.next = next;
+    }
+  }
+
+  private static final class TrampolineFlatMap<T, R> extends Trampoline<R> {
+    private final Trampoline<T> source;
+    private final ThFunction<? super T, ? extends Trampoline<R>, ?> function;
+
+    private TrampolineFlatMap(final Trampoline<T> source,
+                              final ThFunction<? super T, ? extends Trampoline<R>, ?> function) {
+      this.source = source;
+      this.function = function;
+    }
+  }
+
+  private static final class TrampolineCalls implements ThConsumer<Object, RuntimeException>,
+    Th2Consumer<Object, Object, RuntimeException> {
+    private final List<Object> pending = new ArrayList<>();
+    private final Deque<Object> stack = new ArrayDeque<>();
+
+    private TrampolineCalls() {
+    }
+
+    @Override
+    public void accept(final Object value) {
+      this.pending.add(value);
+    }
+
+    @Override
+    public void accept(final Object value1,
+                       final Object value2) {
+      this.pending.add(value1);
+      this.pending.add(value2);
+    }
+
+    private void flush() {
+      for (int idx = this.pending.size() - 1; idx >= 0; idx--) {
+        this.stack.push(wrapNull(this.pending.get(idx)));
+      }
+      this.pending.clear();
+    }
+
+    private boolean isEmpty() {
+      return this.stack.isEmpty();
+    }
+
+    private <V> V poll() {
+      return unwrapNull(this.stack.pop());
+    }
+  }
+
+  private static final class RecurForkImpl<V, R> implements RecurFork<V, R>, RecurDepth {
+    private final Th3Function<? super RecurDepth, ? super V, ? super RecurFork<V, R>, ? extends R, ?> block;
+    private final int forkDepth;
+    private final int depth;
+
+    private RecurForkImpl(final Th3Function<? super RecurDepth, ? super V, ? super RecurFork<V, R>, ? extends R, ?> block,
+                          final int forkDepth,
+                          final int depth) {
+      this.block = block;
+      this.forkDepth = forkDepth;
+      this.depth = depth;
+    }
+
+    @Override
+    public int current() {
+      return this.depth;
+    }
+
+    @Override
+    public R apply(final V value) {
+      return new RecurForkImpl<>(this.block, this.forkDepth, this.depth + 1).compute(value);
+    }
+
+    @Override
+    public RecurJoin<R> fork(final V value) {
+      final RecurForkImpl<V, R> child = new RecurForkImpl<>(this.block, this.forkDepth, this.depth + 1);
+      if (this.depth >= this.forkDepth || !ForkJoinTask.inForkJoinPool()) {
+        final R result;
+        try {
+          result = child.compute(value);
+        } catch (final Throwable ex) {
+          return () -> {
+            throw Throw.unchecked(ex);
+          };
+        }
+        return () -> result;
+      }
+      final RecurForkTask<V, R> task = new RecurForkTask<>(child, value);
+      task.fork();
+      return task::joinResult;
+    }
+
+    private R compute(final V value) {
+      return Th3Function.unchecked(this.block).apply(this, value, this);
+    }
+  }
+
+  private static final class RecurForkTask<V, R> extends ForkJoinTask<R> {
+    private static final long serialVersionUID = 1L;
+    private final transient RecurForkImpl<V, R> self;
+    private transient V value;
+    private transient R result;
+    private transient Throwable failure;
+
+    private RecurForkTask(final RecurForkImpl<V, R> self,
+                          final V value) {
+      this.self = self;
+      this.value = value;
+    }
+
+    @Override
+    public R getRawResult() {
+      return this.result;
+    }
+
+    @Override
+    protected void setRawResult(final R value) {
+      this.result = value;
+    }
+
+    @Override
+    protected boolean exec() {
+      try {
+        this.result = this.self.compute(this.value);
+      } catch (final Throwable ex) {
+        this.failure = ex;
+      }
+      this.value = null;
+      return true;
+    }
+
+    private R joinResult() {
+      this.quietlyJoin();
+      return this.result();
+    }
+
+    private R result() {
+      if (this.failure != null) {
+        throw Throw.unchecked(this.failure);
+      }
+      return this.result;
+    }
+  }
+
+  private static final class LargeStackThreads {
+    private static final long MIN_STACK_SIZE = 1024L * 1024L;
+    private static final long MAX_POWER_OF_TWO_STACK_SIZE = 1L << 62;
+    private static final int MAX_THREADS_PER_STACK_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final ConcurrentMap<Long, ThreadPoolExecutor> EXECUTORS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Thread, Long> STACK_SIZES = new ConcurrentHashMap<>();
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private LargeStackThreads() {
+    }
+
+    /**
+     * Returns a new pool thread. Pool threads are created by whichever caller submits a call first, so they use the
+     * system class loader as the context class loader and, where the runtime allows it, don't inherit inheritable
+     * thread-local values of this caller.
+     */
+    private static Thread newThread(final Runnable runnable,
+                                    final long stackSize) {
+      final Thread thread = Platform.newThread(() -> {
+        STACK_SIZES.put(Thread.currentThread(), stackSize);
+        try {
+          runnable.run();
+        } finally {
+          STACK_SIZES.remove(Thread.currentThread());
+        }
+      }, "jkscope-recur-" + THREAD_NUMBER.incrementAndGet(), stackSize);
+      thread.setContextClassLoader(ClassLoader.getSystemClassLoader());
+      thread.setDaemon(true);
+      return thread;
+    }
+
+    /**
+     * Returns the executor for the stack size rounded up to a power of two, so the number of executors is bounded. Waits
+     * between executors only go from smaller to larger stack sizes, so queued calls cannot deadlock.
+     */
+    private static ThreadPoolExecutor executor(final long stackSize) {
+      final long roundedStackSize = stackSize > MAX_POWER_OF_TWO_STACK_SIZE
+        ? Long.MAX_VALUE
+        : Math.max(MIN_STACK_SIZE, Long.highestOneBit(stackSize - 1L) << 1);
+      return EXECUTORS.computeIfAbsent(roundedStackSize, key -> {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+          MAX_THREADS_PER_STACK_SIZE, MAX_THREADS_PER_STACK_SIZE, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+          runnable -> newThread(runnable, roundedStackSize)
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+      });
+    }
+  }
+
+  private static final class LargeStackCall<R> implements Runnable {
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final ThSupplier<? extends R, ?> block;
+    private R result;
+    private Throwable failure;
+
+    private LargeStackCall(final ThSupplier<? extends R, ?> block) {
+      this.block = block;
+    }
+
+    @Override
+    public void run() {
+      try {
+        this.result = this.block.get();
+      } catch (final Throwable ex) {
+        this.failure = ex;
+      } finally {
+        this.latch.countDown();
+      }
+    }
+
+    private R await() {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          this.latch.await();
+          break;
+        } catch (final InterruptedException ex) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      if (this.failure != null) {
+        throw Throw.unchecked(this.failure);
+      }
+      return this.result;
+    }
+  }
+
+  private static final class RecurMemoTable {
+    private static final Object NO_VALUE = new Object();
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private final boolean pairKeys;
+    private final int maxSize;
+    private Object[] keys1;
+    private Object[] keys2;
+    private Object[] values;
+    private int size;
+
+    private RecurMemoTable(final boolean pairKeys,
+                           final int maxSize) {
+      this.pairKeys = pairKeys;
+      this.maxSize = maxSize;
+      this.keys1 = new Object[INITIAL_CAPACITY];
+      this.keys2 = pairKeys ? new Object[INITIAL_CAPACITY] : null;
+      this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    private Object get(final Object key1,
+                       final Object key2) {
+      final Object wrappedKey1 = wrapNull(key1);
+      final Object wrappedKey2 = wrapNull(key2);
+      final int mask = this.keys1.length - 1;
+      for (int idx = this.hash(wrappedKey1, wrappedKey2) & mask; ; idx = (idx + 1) & mask) {
+        final Object current = this.keys1[idx];
+        if (current == null) {
+          return NO_VALUE;
+        }
+        if (current.equals(wrappedKey1) && (!this.pairKeys || this.keys2[idx].equals(wrappedKey2))) {
+          return this.values[idx];
+        }
+      }
+    }
+
+    private void put(final Object key1,
+                     final Object key2,
+                     final Object value) {
+      if (this.size >= this.maxSize) {
+        return;
+      }
+      if ((this.size + 1) * 2 > this.keys1.length) {
+        if (this.keys1.length == MAXIMUM_CAPACITY) {
+          return;
+        }
+        this.resize();
+      }
+      final Object wrappedKey1 = wrapNull(key1);
+      final Object wrappedKey2 = wrapNull(key2);
+      final int mask = this.keys1.length - 1;
+      for (int idx = this.hash(wrappedKey1, wrappedKey2) & mask; ; idx = (idx + 1) & mask) {
+        final Object current = this.keys1[idx];
+        if (current == null) {
+          this.keys1[idx] = wrappedKey1;
+          if (this.pairKeys) {
+            this.keys2[idx] = wrappedKey2;
+          }
+          this.values[idx] = value;
+          this.size++;
+          return;
+        }
+        if (current.equals(wrappedKey1) && (!this.pairKeys || this.keys2[idx].equals(wrappedKey2))) {
+          this.values[idx] = value;
+          return;
+        }
+      }
+    }
+
+    private int hash(final Object wrappedKey1,
+                     final Object wrappedKey2) {
+      int hash = wrappedKey1.hashCode();
+      if (this.pairKeys) {
+        hash = hash * 31 + wrappedKey2.hashCode();
+      }
+      hash *= 0x9E3779B9;
+      return hash ^ (hash >>> 16);
+    }
+
+    private void resize() {
+      final Object[] oldKeys1 = this.keys1;
+      final Object[] oldKeys2 = this.keys2;
+      final Object[] oldValues = this.values;
+      final int newCapacity = oldKeys1.length * 2;
+      final int mask = newCapacity - 1;
+      this.keys1 = new Object[newCapacity];
+      this.keys2 = this.pairKeys ? new Object[newCapacity] : null;
+      this.values = new Object[newCapacity];
+      for (int oldIdx = 0; oldIdx < oldKeys1.length; oldIdx++) {
+        final Object key1 = oldKeys1[oldIdx];
+        if (key1 != null) {
+          final Object key2 = this.pairKeys ? oldKeys2[oldIdx] : null;
+          int idx = this.hash(key1, key2) & mask;
+          while (this.keys1[idx] != null) {
+            idx = (idx + 1) & mask;
+          }
+          this.keys1[idx] = key1;
+          if (this.pairKeys) {
+            this.keys2[idx] = key2;
+          }
+          this.values[idx] = oldValues[oldIdx];
+        }
+      }
+    }
+  }
+
+  private static final class ItrDequeImpl<E> implements ItrDeque<E> {
+    private final Deque<Object> deque = new ArrayDeque<>();
+
+    private ItrDequeImpl() {
+    }
+
+    @Override
+    public E add(final E element) {
+      this.deque.add(wrapNull(element));
+      return element;
+    }
+
+    @Override
+    public E addLast(final E element) {
+      this.deque.addLast(wrapNull(element));
+      return element;
+    }
+
+    @Override
+    public E push(final E element) {
+      this.deque.push(wrapNull(element));
+      return element;
+    }
+
+    @Override
+    public E addFirst(final E element) {
+      this.deque.addFirst(wrapNull(element));
+      return element;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.deque.isEmpty();
+    }
+
+    @Override
+    public int size() {
+      return this.deque.size();
+    }
+  }
+
+  private static final class ItrDeque2Impl<E1, E2> implements ItrDeque2<E1, E2> {
+    private final Deque<Object> deque1 = new ArrayDeque<>();
+    private final Deque<Object> deque2 = new ArrayDeque<>();
+
+    private ItrDeque2Impl() {
+    }
+
+    @Override
+    public void add(final E1 element1,
+                    final E2 element2) {
+      this.deque1.add(wrapNull(element1));
+      this.deque2.add(wrapNull(element2));
+    }
+
+    @Override
+    public void addLast(final E1 element1,
+                        final E2 element2) {
+      this.deque1.addLast(wrapNull(element1));
+      this.deque2.addLast(wrapNull(element2));
+    }
+
+    @Override
+    public void push(final E1 element1,
+                     final E2 element2) {
+      this.deque1.push(wrapNull(element1));
+      this.deque2.push(wrapNull(element2));
+    }
+
+    @Override
+    public void addFirst(final E1 element1,
+                         final E2 element2) {
+      this.deque1.addFirst(wrapNull(element1));
+      this.deque2.addFirst(wrapNull(element2));
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.deque1.isEmpty();
+    }
+
+    @Override
+    public int size() {
+      return this.deque1.size();
+    }
+  }
+
+  private static final class ItrDeque3Impl<E1, E2, E3> implements ItrDeque3<E1, E2, E3> {
+    private final Deque<Object> deque1 = new ArrayDeque<>();
+    private final Deque<Object> deque2 = new ArrayDeque<>();
+    private final Deque<Object> deque3 = new ArrayDeque<>();
+
+    private ItrDeque3Impl() {
+    }
+
+    @Override
+    public void add(final E1 element1,
+                    final E2 element2,
+                    final E3 element3) {
+      this.deque1.add(wrapNull(element1));
+      this.deque2.add(wrapNull(element2));
+      this.deque3.add(wrapNull(element3));
+    }
+
+    @Override
+    public void addLast(final E1 element1,
+                        final E2 element2,
+                        final E3 element3) {
+      this.deque1.addLast(wrapNull(element1));
+      this.deque2.addLast(wrapNull(element2));
+      this.deque3.addLast(wrapNull(element3));
+    }
+
+    @Override
+    public void push(final E1 element1,
+                     final E2 element2,
+                     final E3 element3) {
+      this.deque1.push(wrapNull(element1));
+      this.deque2.push(wrapNull(element2));
+      this.deque3.push(wrapNull(element3));
+    }
+
+    @Override
+    public void addFirst(final E1 element1,
+                         final E2 element2,
+                         final E3 element3) {
+      this.deque1.addFirst(wrapNull(element1));
+      this.deque2.addFirst(wrapNull(element2));
+      this.deque3.addFirst(wrapNull(element3));
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.deque1.isEmpty();
+    }
+
+    @Override
+    public int size() {
+      return this.deque1.size();
+    }
+  }
+
+  private static final class ResourceDequeImpl implements ResourceDeque {
+    private final Deque<AutoCloseable> deque = new ArrayDeque<>();
+
+    private ResourceDequeImpl() {
+    }
+
+    @Override
+    public <R extends AutoCloseable> R add(final R resource) {
+      resourceArgNotNull(resource);
+      this.deque.add(resource);
+      return resource;
+    }
+
+    @Override
+    public <R extends AutoCloseable> R addLast(final R resource) {
+      resourceArgNotNull(resource);
+      this.deque.addLast(resource);
+      return resource;
+    }
+
+    @Override
+    public <R extends AutoCloseable> R push(final R resource) {
+      resourceArgNotNull(resource);
+      this.deque.push(resource);
+      return resource;
+    }
+
+    @Override
+    public <R extends AutoCloseable> R addFirst(final R resource) {
+      resourceArgNotNull(resource);
+      this.deque.addFirst(resource);
+      return resource;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.deque.isEmpty();
+    }
+
+    @Override
+    public int size() {
+      return this.deque.size();
+    }
+
+    private void close(Throwable mainEx) {
+      for (final AutoCloseable resource : this.deque) {
+        try {
+          resource.close();
+        } catch (final Throwable ex) {
+          if (mainEx == null) {
+            mainEx = ex;
+          } else {
+            mainEx.addSuppressed(ex);
+          }
+        }
+      }
+      if (mainEx != null) {
+        Throw.unchecked(mainEx);
+      }
+    }
+  }
+
+  private static final class InitializedLazy<V> implements Lazy<V>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private final V value;
+
+    private InitializedLazy(final V value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public V get() {
+      return this.value;
+    }
+
+    @Override
+    public String toString() {
+      return "Lazy[" + this.value + "]";
+    }
+  }
+
+  private static final class InitializedLazyOfNull<V> implements Lazy<V>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final InitializedLazyOfNull<?> INSTANCE = new InitializedLazyOfNull<>();
+
+    private InitializedLazyOfNull() {
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return true;
+    }
+
+    @Override
+    public V get() {
+      return null;
+    }
+
+    @Override
+    public String toString() {
+      return "Lazy[null]";
+    }
+
+    private Object readResolve() {
+      return INSTANCE;
+    }
+  }
 
-    /**
-     * Inserts the specified pair of elements at the end of this deque. Alias for the {@link #add(Object, Object)}
-     * method.
-     *
-     * @param element1 the first element in pair
-     * @param element2 the second element in pair
-     */
-    void addLast(E1 element1,
-                 E2 element2);
+  private static final class UnsafeLazy<V> implements Lazy<V>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private ThSupplier<? extends V, ?> initializer;
+    private Object value;
 
-    /**
-     * Inserts the specified pair of elements at the front of this deque.
-     *
-     * @param element1 the first element in pair
-     * @param element2 the second element in pair
-     */
-    void push(E1 element1,
-              E2 element2);
+    private UnsafeLazy(final ThSupplier<? extends V, ?> initializer) {
+      this.initializer = initializer;
+      this.value = UNINITIALIZED_VALUE;
+    }
 
-    /**
-     * Inserts the specified pair of elements at the front of this deque. Alias for the {@link #push(Object, Object)}
-     * method.
-     *
-     * @param element1 the first element in pair
-     * @param element2 the second element in pair
-     */
-    void addFirst(E1 element1,
-                  E2 element2);
+    @Override
+    public boolean isInitialized() {
+      return this.value != UNINITIALIZED_VALUE;
+    }
 
-    /**
-     * Returns {@code true} if this deque contains no elements.
-     *
-     * @return {@code true} if this deque contains no elements
-     */
-    boolean isEmpty();
+    @Override
+    public V get() {
+      final Object v = this.value;
+      if (v != UNINITIALIZED_VALUE) {
+        return Cast.unsafe(v);
+      }
+      final ThSupplier<? extends V, ?> init = this.initializer;
+      if (init != null) {
+        final V newValue = ThSupplier.unchecked(init).get();
+        this.value = newValue;
+        this.initializer = null;
+        return newValue;
+      }
+      return Cast.unsafe(this.value);
+    }
 
-    /**
-     * Returns the number of element pairs in this deque.
-     *
-     * @return number of element pairs in this deque
-     */
-    int size();
+    @Override
+    public String toString() {
+      return this.isInitialized()
+        ? "Lazy[" + this.value + "]"
+        : "Lazy value not initialized yet";
+    }
+
+    private Object writeReplace() {
+      final ThSupplier<? extends V, ?> init = this.initializer;
+      return this.value == UNINITIALIZED_VALUE && init instanceof Serializable
+        ? new SerializedLazy(Lazy.ThreadSafetyMode.NONE, init)
+        : lazyOf(this.get());
+    }
   }
 
-  /**
-   * Deque of element triples.
-   *
-   * <p>Used in {@code iterate3} methods.</p>
-   *
-   * @param <E1> the type of the first element in triple
-   * @param <E2> the type of the second element in triple
-   * @param <E3> the type of the third element in triple
-   */
-  public interface ItrDeque3<E1, E2, E3> {
+  private static final class SafePublicationLazy<V> extends AbstractLazy<V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private volatile ThSupplier<? extends V, ?> initializer;
 
-    /**
-     * Inserts the specified triple of elements at the end of this deque.
-     *
-     * @param element1 the first element in triple
-     * @param element2 the second element in triple
-     * @param element3 the third element in triple
-     */
-    void add(E1 element1,
-             E2 element2,
-             E3 element3);
+    private SafePublicationLazy(final ThSupplier<? extends V, ?> initializer) {
+      this.initializer = initializer;
+    }
 
-    /**
-     * Inserts the specified triple of elements at the end of this deque. Alias for the
-     * {@link #add(Object, Object, Object)} method.
-     *
-     * @param element1 the first element in triple
-     * @param element2 the second element in triple
-     * @param element3 the third element in triple
-     */
-    void addLast(E1 element1,
-                 E2 element2,
-                 E3 element3);
+    @Override
+    public V get() {
+      final Object v = this.getAcquire();
+      if (v != null) {
+        return unwrap(v);
+      }
+      final ThSupplier<? extends V, ?> init = this.initializer;
+      if (init != null) {
+        final V newValue = ThSupplier.unchecked(init).get();
+        if (this.compareAndSetInitial(newValue)) {
+          this.initializer = null;
+          return newValue;
+        }
+      }
+      return unwrap(this.getAcquire());
+    }
 
-    /**
-     * Inserts the specified triple of elements at the front of this deque.
-     *
-     * @param element1 the first element in triple
-     * @param element2 the second element in triple
-     * @param element3 the third element in triple
-     */
-    void push(E1 element1,
-              E2 element2,
-              E3 element3);
+    private Object writeReplace() {
+      final ThSupplier<? extends V, ?> init = this.initializer;
+      return this.getAcquire() == null && init instanceof Serializable
+        ? new SerializedLazy(Lazy.ThreadSafetyMode.PUBLICATION, init)
+        : lazyOf(this.get());
+    }
+  }
 
-    /**
-     * Inserts the specified triple of elements at the front of this deque. Alias for the
-     * {@link #push(Object, Object, Object)} method.
-     *
-     * @param element1 the first element in triple
-     * @param element2 the second element in triple
-     * @param element3 the third element in triple
-     */
-    void addFirst(E1 element1,
-                  E2 element2,
-                  E3 element3);
+  private static final class SynchronizedLazy<V> extends AbstractLazy<V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    private final Object lock;
+    private ThSupplier<? extends V, ?> initializer;
+    private transient volatile Thread initializingThread;
 
-    /**
-     * Returns {@code true} if this deque contains no elements.
-     *
-     * @return {@code true} if this deque contains no elements
-     */
-    boolean isEmpty();
+    private SynchronizedLazy(final ThSupplier<? extends V, ?> initializer) {
+      this.lock = this;
+      this.initializer = initializer;
+    }
 
-    /**
-     * Returns the number of element triples in this deque.
-     *
-     * @return number of element triples in this deque
-     */
-    int size();
-  }
+    private SynchronizedLazy(final Object lock,
+                             final ThSupplier<? extends V, ?> initializer) {
+      this.lock = lock;
+      this.initializer = initializer;
+    }
 
-  /**
-   * Deque that stores {@link AutoCloseable} resources.
-   *
-   * <p>Used in {@code use} methods.</p>
-   */
-  public interface ResourceDeque {
+    @Override
+    public V get() {
+      final Object v1 = this.getAcquire();
+      if (v1 != null) {
+        return unwrap(v1);
+      }
+      synchronized (this.lock) {
+        final Object v2 = this.getPlain();
+        if (v2 != null) {
+          return unwrap(v2);
+        }
+        this.initializingThread = Thread.currentThread();
+        try {
+          final V newValue = ThSupplier.unchecked(this.initializer).get();
+          this.setRelease(newValue);
+          this.initializer = null;
+          return newValue;
+        } finally {
+          this.initializingThread = null;
+        }
+      }
+    }
 
     /**
-     * Inserts the specified resource at the end of this deque.
-     *
-     * @param resource the {@link AutoCloseable} resource
-     * @param <R>      the type of the resource
-     * @return given resource
-     * @throws NullPointerException if {@code resource} arg is {@code null}
+     * Waits while this instance is initialized by another thread. A monitor held by other code, including other
+     * instances sharing the same lock object, cannot be detected and may still block the caller.
      */
-    <R extends AutoCloseable> R add(R resource);
+    @Override
+    public V get(final Duration timeout) throws InterruptedException, TimeoutException {
+      timeoutArgNotNull(timeout);
+      final long deadline = System.nanoTime() + nanosOf(timeout);
+      Object v;
+      while ((v = this.getAcquire()) == null) {
+        final Thread owner = this.initializingThread;
+        if (owner == null || owner == Thread.currentThread()) {
+          return this.get();
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0L) {
+          throw new TimeoutException("Lazy value initialization timed out");
+        }
+        LockSupport.parkNanos(this, Math.min(remaining, MAX_PARK_NANOS));
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+      return unwrap(v);
+    }
 
-    /**
-     * Inserts the specified resource at the end of this deque. Alias for the {@link #add(AutoCloseable)} method.
-     *
-     * @param resource the {@link AutoCloseable} resource
-     * @param <R>      the type of the resource
-     * @return given resource
-     * @throws NullPointerException if {@code resource} arg is {@code null}
-     */
-    <R extends AutoCloseable> R addLast(R resource);
+    private Object writeReplace() {
+      synchronized (this.lock) {
+        if (this.getPlain() == null && this.initializer instanceof Serializable) {
+          return new SerializedLazy(Lazy.ThreadSafetyMode.SYNCHRONIZED, this.initializer);
+        }
+      }
+      return lazyOf(this.get());
+    }
+  }
 
-    /**
-     * Inserts the specified resource at the front of this deque.
-     *
-     * @param resource the {@link AutoCloseable} resource
-     * @param <R>      the type of the resource
-     * @return given resource
-     * @throws NullPointerException if {@code resource} arg is {@code null}
-     */
-    <R extends AutoCloseable> R push(R resource);
+  private static final class LockLazy<V> extends AbstractLazy<V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final Lock lock;
+    private ThSupplier<? extends V, ?> initializer;
 
-    /**
-     * Inserts the specified resource at the front of this deque. Alias for the {@link #push(AutoCloseable)} method.
-     *
-     * @param resource the {@link AutoCloseable} resource
-     * @param <R>      the type of the resource
-     * @return given resource
-     * @throws NullPointerException if {@code resource} arg is {@code null}
-     */
-    <R extends AutoCloseable> R addFirst(R resource);
+    private LockLazy(final Lock lock,
+                     final ThSupplier<? extends V, ?> initializer) {
+      this.lock = lock;
+      this.initializer = initializer;
+    }
+
+    @Override
+    public V get() {
+      final Object v1 = this.getAcquire();
+      if (v1 != null) {
+        return unwrap(v1);
+      }
+      this.lock.lock();
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    @Override
+    public V get(final Duration timeout) throws InterruptedException, TimeoutException {
+      timeoutArgNotNull(timeout);
+      final Object v1 = this.getAcquire();
+      if (v1 != null) {
+        return unwrap(v1);
+      }
+      if (!this.lock.tryLock(nanosOf(timeout), TimeUnit.NANOSECONDS)) {
+        throw new TimeoutException("Lazy value initialization timed out");
+      }
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
+    }
 
-    /**
-     * Returns {@code true} if this deque contains no elements.
-     *
-     * @return {@code true} if this deque contains no elements
-     */
-    boolean isEmpty();
+    private V getLocked() {
+      final Object v2 = this.getPlain();
+      if (v2 != null) {
+        return unwrap(v2);
+      }
+      final V newValue = ThSupplier.unchecked(this.initializer).get();
+      this.setRelease(newValue);
+      this.initializer = null;
+      return newValue;
+    }
 
-    /**
-     * Returns the number of elements in this deque.
-     *
-     * @return number of elements in this deque
-     */
-    int size();
+    private Object writeReplace() {
+      this.lock.lock();
+      try {
+        if (this.getPlain() == null && this.initializer instanceof Serializable) {
+          return new SerializedLazy(Lazy.ThreadSafetyMode.SYNCHRONIZED, this.initializer);
+        }
+      } finally {
+        this.lock.unlock();
+      }
+      return lazyOf(this.get());
+    }
   }
 
-  /* private area */
+  /**
+   * Serialized form of uninitialized {@link Lazy} instances with serializable initializers.
+   */
+  private static final class SerializedLazy implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final Lazy.ThreadSafetyMode threadSafetyMode;
+    private final ThSupplier<?, ?> initializer;
 
-  private static final Object UNINITIALIZED_VALUE = new Object();
-  private static final Object NULL_REPLACEMENT = new Object();
+    private SerializedLazy(final Lazy.ThreadSafetyMode threadSafetyMode,
+                           final ThSupplier<?, ?> initializer) {
+      this.threadSafetyMode = threadSafetyMode;
+      this.initializer = initializer;
+    }
 
-  private static Object wrapNull(final Object obj) {
-    return obj == null ? NULL_REPLACEMENT : obj;
+    private Object readResolve() {
+      return lazy(this.threadSafetyMode, this.initializer);
+    }
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> T unwrapNull(final Object obj) {
-    return obj == NULL_REPLACEMENT ? null : (T) obj;
-  }
+  private static final class ExpiringLazy<V> implements Lazy<V>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private final long expireNanos;
+    private final long refreshNanos;
+    private final Executor executor;
+    private final ThSupplier<? extends V, ?> initializer;
+    private final Lock lock;
+    private final AtomicBoolean refreshing;
+    private volatile Entry<V> entry;
+
+    private ExpiringLazy(final long expireNanos,
+                         final long refreshNanos,
+                         final Executor executor,
+                         final ThSupplier<? extends V, ?> initializer) {
+      this.expireNanos = expireNanos;
+      this.refreshNanos = refreshNanos;
+      this.executor = executor;
+      this.initializer = initializer;
+      this.lock = new ReentrantLock();
+      this.refreshing = new AtomicBoolean();
+    }
 
-  private static Throwable closeResource(final AutoCloseable resource,
-                                         Throwable mainEx) {
-    try {
-      resource.close();
-    } catch (final Throwable ex) {
-      if (mainEx == null) {
-        mainEx = ex;
-      } else {
-        mainEx.addSuppressed(ex);
+    @Override
+    public V get() {
+      final Entry<V> current = this.freshEntry();
+      if (current != null) {
+        return current.value;
+      }
+      this.lock.lock();
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
       }
     }
-    return mainEx;
-  }
-
-  private static void blockArgNotNull(final Object block) {
-    if (block == null) { throw new NullPointerException("block arg is null"); }
-  }
 
-  private static void resourceArgNotNull(final Object resource) {
-    if (resource == null) { throw new NullPointerException("resource arg is null"); }
-  }
-
-  private static void resource1ArgNotNull(final Object resource1) {
-    if (resource1 == null) { throw new NullPointerException("resource1 arg is null"); }
-  }
+    @Override
+    public V get(final Duration timeout) throws InterruptedException, TimeoutException {
+      timeoutArgNotNull(timeout);
+      final Entry<V> current = this.freshEntry();
+      if (current != null) {
+        return current.value;
+      }
+      if (!this.lock.tryLock(nanosOf(timeout), TimeUnit.NANOSECONDS)) {
+        throw new TimeoutException("Lazy value initialization timed out");
+      }
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
+    }
 
-  private static void resource2ArgNotNull(final Object resource2) {
-    if (resource2 == null) { throw new NullPointerException("resource2 arg is null"); }
-  }
+    @Override
+    public boolean isInitialized() {
+      final Entry<V> current = this.entry;
+      return current != null && System.nanoTime() - current.writeNanos < this.expireNanos;
+    }
 
-  private static void resource3ArgNotNull(final Object resource3) {
-    if (resource3 == null) { throw new NullPointerException("resource3 arg is null"); }
-  }
+    @Override
+    public String toString() {
+      final Entry<V> current = this.entry;
+      return current != null && System.nanoTime() - current.writeNanos < this.expireNanos
+        ? "Lazy[" + current.value + "]"
+        : "Lazy value not initialized yet";
+    }
 
-  private static void arrayArgNotNull(final Object array) {
-    if (array == null) { throw new NullPointerException("array arg is null"); }
-  }
+    private Entry<V> freshEntry() {
+      final Entry<V> current = this.entry;
+      if (current != null) {
+        final long age = System.nanoTime() - current.writeNanos;
+        if (age < this.expireNanos) {
+          if (this.refreshNanos >= 0L && age >= this.refreshNanos) {
+            this.refreshAhead(current);
+          }
+          return current;
+        }
+      }
+      return null;
+    }
 
-  private static void iterableArgNotNull(final Object iterable) {
-    if (iterable == null) { throw new NullPointerException("iterable arg is null"); }
-  }
+    private V getLocked() {
+      final Entry<V> locked = this.entry;
+      if (locked != null && System.nanoTime() - locked.writeNanos < this.expireNanos) {
+        return locked.value;
+      }
+      return this.load();
+    }
 
-  private static void iteratorArgNotNull(final Object iterator) {
-    if (iterator == null) { throw new NullPointerException("iterator arg is null"); }
-  }
+    private V load() {
+      final V newValue = ThSupplier.unchecked(this.initializer).get();
+      this.entry = new Entry<>(newValue, System.nanoTime());
+      return newValue;
+    }
 
-  private static void mapArgNotNull(final Object map) {
-    if (map == null) { throw new NullPointerException("map arg is null"); }
-  }
+    private void refreshAhead(final Entry<V> stale) {
+      if (!this.refreshing.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        this.executor.execute(() -> {
+          try {
+            this.lock.lock();
+            try {
+              if (this.entry == stale) {
+                this.load();
+              }
+            } finally {
+              this.lock.unlock();
+            }
+          } catch (final Throwable ignored) {
+            /* the value is recomputed synchronously after expiration */
+          } finally {
+            this.refreshing.set(false);
+          }
+        });
+      } catch (final RejectedExecutionException ex) {
+        this.refreshing.set(false);
+      }
+    }
 
-  private static void initializerArgNotNull(final Object initializer) {
-    if (initializer == null) { throw new NullPointerException("initializer arg is null"); }
-  }
+    private Object writeReplace() {
+      return lazyOf(this.get());
+    }
 
-  private static void threadSafetyModeArgNotNull(final Object threadSafetyMode) {
-    if (threadSafetyMode == null) { throw new NullPointerException("threadSafetyMode arg is null"); }
-  }
+    private static final class Entry<V> {
+      private final V value;
+      private final long writeNanos;
 
-  private static void lockArgNotNull(final Object lock) {
-    if (lock == null) { throw new NullPointerException("lock arg is null"); }
+      private Entry(final V value,
+                    final long writeNanos) {
+        this.value = value;
+        this.writeNanos = writeNanos;
+      }
+    }
   }
 
-  private static final class RecurDepthImpl implements RecurDepth {
-    private int current = 0;
+  private static final class ExecutorAsyncLazy<V> implements AsyncLazy<V> {
+    private final CompletableFuture<V> future;
+    private final AtomicBoolean started;
+    private final ThSupplier<? extends V, ?> initializer;
+    private final Executor executor;
 
-    private RecurDepthImpl() {
+    private ExecutorAsyncLazy(final ThSupplier<? extends V, ?> initializer,
+                              final Executor executor) {
+      this.future = new CompletableFuture<>();
+      this.started = new AtomicBoolean();
+      this.initializer = initializer;
+      this.executor = executor;
     }
 
     @Override
-    public int current() {
-      return this.current;
+    public CompletableFuture<V> getAsync() {
+      return this.start().thenApply(value -> value);
     }
-  }
 
-  private static final class ItrDequeImpl<E> implements ItrDeque<E> {
-    private final Deque<Object> deque = new ArrayDeque<>();
-
-    private ItrDequeImpl() {
+    private CompletableFuture<V> start() {
+      if (!this.started.get() && this.started.compareAndSet(false, true)) {
+        try {
+          this.executor.execute(() -> {
+            try {
+              this.future.complete(this.initializer.get());
+            } catch (final Throwable ex) {
+              this.future.completeExceptionally(ex);
+            }
+          });
+        } catch (final Throwable ex) {
+          this.future.completeExceptionally(ex);
+        }
+      }
+      return this.future;
     }
 
     @Override
-    public E add(final E element) {
-      this.deque.add(wrapNull(element));
-      return element;
+    public V get() {
+      try {
+        return this.start().join();
+      } catch (final CompletionException ex) {
+        final Throwable cause = ex.getCause();
+        throw Throw.unchecked(cause == null ? ex : cause);
+      }
     }
 
     @Override
-    public E addLast(final E element) {
-      this.deque.addLast(wrapNull(element));
-      return element;
+    public V get(final Duration timeout) throws InterruptedException, TimeoutException {
+      timeoutArgNotNull(timeout);
+      try {
+        return this.start().get(nanosOf(timeout), TimeUnit.NANOSECONDS);
+      } catch (final ExecutionException ex) {
+        final Throwable cause = ex.getCause();
+        throw Throw.unchecked(cause == null ? ex : cause);
+      } catch (final TimeoutException ex) {
+        throw new TimeoutException("Lazy value initialization timed out");
+      }
     }
 
     @Override
-    public E push(final E element) {
-      this.deque.push(wrapNull(element));
-      return element;
+    public boolean isInitialized() {
+      return this.future.isDone() && !this.future.isCompletedExceptionally();
     }
 
     @Override
-    public E addFirst(final E element) {
-      this.deque.addFirst(wrapNull(element));
-      return element;
+    public String toString() {
+      return this.isInitialized()
+        ? "Lazy[" + this.future.join() + "]"
+        : "Lazy value not initialized yet";
+    }
+  }
+
+  private static final class FailurePolicyLazy<V> extends AbstractLazy<V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final Lock lock;
+    private final Lazy.FailurePolicy failurePolicy;
+    private ThSupplier<? extends V, ?> initializer;
+    private volatile Failure failure;
+
+    private FailurePolicyLazy(final Lazy.FailurePolicy failurePolicy,
+                              final ThSupplier<? extends V, ?> initializer) {
+      this.lock = new ReentrantLock();
+      this.failurePolicy = failurePolicy;
+      this.initializer = initializer;
     }
 
     @Override
-    public boolean isEmpty() {
-      return this.deque.isEmpty();
+    public V get() {
+      final Object v1 = this.getAcquire();
+      if (v1 != null) {
+        return unwrap(v1);
+      }
+      throwIfNotRetryable(this.failure);
+      this.lock.lock();
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
     }
 
     @Override
-    public int size() {
-      return this.deque.size();
+    public V get(final Duration timeout) throws InterruptedException, TimeoutException {
+      timeoutArgNotNull(timeout);
+      final Object v1 = this.getAcquire();
+      if (v1 != null) {
+        return unwrap(v1);
+      }
+      throwIfNotRetryable(this.failure);
+      if (!this.lock.tryLock(nanosOf(timeout), TimeUnit.NANOSECONDS)) {
+        throw new TimeoutException("Lazy value initialization timed out");
+      }
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    private V getLocked() {
+      final Object v2 = this.getPlain();
+      if (v2 != null) {
+        return unwrap(v2);
+      }
+      final Failure lastFailure = this.failure;
+      throwIfNotRetryable(lastFailure);
+      final V newValue;
+      try {
+        newValue = ThSupplier.unchecked(this.initializer).get();
+      } catch (final Throwable ex) {
+        final int failures = lastFailure == null ? 1 : lastFailure.count + 1;
+        this.failure = new Failure(ex, failures, System.nanoTime() + this.failurePolicy.delayNanos(failures));
+        throw ex;
+      }
+      this.setRelease(newValue);
+      this.initializer = null;
+      this.failure = null;
+      return newValue;
+    }
+
+    private static void throwIfNotRetryable(final Failure failure) {
+      if (failure != null && System.nanoTime() - failure.retryNanos < 0L) {
+        throw Throw.unchecked(failure.exception);
+      }
+    }
+
+    private Object writeReplace() {
+      return lazyOf(this.get());
+    }
+
+    private static final class Failure {
+      private final Throwable exception;
+      private final int count;
+      private final long retryNanos;
+
+      private Failure(final Throwable exception,
+                      final int count,
+                      final long retryNanos) {
+        this.exception = exception;
+        this.count = count;
+        this.retryNanos = retryNanos;
+      }
     }
   }
 
-  private static final class ItrDeque2Impl<E1, E2> implements ItrDeque2<E1, E2> {
-    private final Deque<Object> deque1 = new ArrayDeque<>();
-    private final Deque<Object> deque2 = new ArrayDeque<>();
+  private static final class Memoized1<T, R> extends AbstractMemoized implements MemoizedFunction<T, R> {
+    private final ThFunction<? super T, ? extends R, ?> function;
 
-    private ItrDeque2Impl() {
+    private Memoized1(final ThFunction<? super T, ? extends R, ?> function,
+                      final int maxSize) {
+      super(maxSize);
+      this.function = function;
     }
 
     @Override
-    public void add(final E1 element1,
-                    final E2 element2) {
-      this.deque1.add(wrapNull(element1));
-      this.deque2.add(wrapNull(element2));
+    public R apply(final T t) {
+      final Object cached = this.lookup(t);
+      return cached != NO_VALUE
+        ? Cast.unsafe(cached)
+        : this.install(t, ThFunction.unchecked(this.function).apply(t));
     }
+  }
 
-    @Override
-    public void addLast(final E1 element1,
-                        final E2 element2) {
-      this.deque1.addLast(wrapNull(element1));
-      this.deque2.addLast(wrapNull(element2));
+  private static final class Memoized2<T1, T2, R> extends AbstractMemoized implements Memoized2Function<T1, T2, R> {
+    private final Th2Function<? super T1, ? super T2, ? extends R, ?> function;
+
+    private Memoized2(final Th2Function<? super T1, ? super T2, ? extends R, ?> function,
+                      final int maxSize) {
+      super(maxSize);
+      this.function = function;
     }
 
     @Override
-    public void push(final E1 element1,
-                     final E2 element2) {
-      this.deque1.push(wrapNull(element1));
-      this.deque2.push(wrapNull(element2));
+    public R apply(final T1 t1,
+                   final T2 t2) {
+      final Key key = new Key(t1, t2, null);
+      final Object cached = this.lookup(key);
+      return cached != NO_VALUE
+        ? Cast.unsafe(cached)
+        : this.install(key, Th2Function.unchecked(this.function).apply(t1, t2));
+    }
+  }
+
+  private static final class Memoized3<T1, T2, T3, R> extends AbstractMemoized implements Memoized3Function<T1, T2, T3, R> {
+    private final Th3Function<? super T1, ? super T2, ? super T3, ? extends R, ?> function;
+
+    private Memoized3(final Th3Function<? super T1, ? super T2, ? super T3, ? extends R, ?> function,
+                      final int maxSize) {
+      super(maxSize);
+      this.function = function;
     }
 
     @Override
-    public void addFirst(final E1 element1,
-                         final E2 element2) {
-      this.deque1.addFirst(wrapNull(element1));
-      this.deque2.addFirst(wrapNull(element2));
+    public R apply(final T1 t1,
+                   final T2 t2,
+                   final T3 t3) {
+      final Key key = new Key(t1, t2, t3);
+      final Object cached = this.lookup(key);
+      return cached != NO_VALUE
+        ? Cast.unsafe(cached)
+        : this.install(key, Th3Function.unchecked(this.function).apply(t1, t2, t3));
+    }
+  }
+
+  private static final class Key {
+    private final Object k1;
+    private final Object k2;
+    private final Object k3;
+    private final int hash;
+
+    private Key(final Object k1,
+                final Object k2,
+                final Object k3) {
+      this.k1 = k1;
+      this.k2 = k2;
+      this.k3 = k3;
+      this.hash = (Objects.hashCode(k1) * 31 + Objects.hashCode(k2)) * 31 + Objects.hashCode(k3);
     }
 
     @Override
-    public boolean isEmpty() {
-      return this.deque1.isEmpty();
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return this.hash == other.hash
+        && Objects.equals(this.k1, other.k1)
+        && Objects.equals(this.k2, other.k2)
+        && Objects.equals(this.k3, other.k3);
     }
 
     @Override
-    public int size() {
-      return this.deque1.size();
+    public int hashCode() {
+      return this.hash;
     }
   }
 
-  private static final class ItrDeque3Impl<E1, E2, E3> implements ItrDeque3<E1, E2, E3> {
-    private final Deque<Object> deque1 = new ArrayDeque<>();
-    private final Deque<Object> deque2 = new ArrayDeque<>();
-    private final Deque<Object> deque3 = new ArrayDeque<>();
+  private static final class SoftLazy<V> implements Lazy<V>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Object NULL_VALUE = new Object();
+    private final Lock lock;
+    private final ThSupplier<? extends V, ?> initializer;
+    private volatile SoftReference<Object> reference;
 
-    private ItrDeque3Impl() {
+    private SoftLazy(final ThSupplier<? extends V, ?> initializer) {
+      this.lock = new ReentrantLock();
+      this.initializer = initializer;
+    }
+
+    @Override
+    public V get() {
+      final Object v1 = this.referent();
+      if (v1 != null) {
+        return unwrap(v1);
+      }
+      this.lock.lock();
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    @Override
+    public V get(final Duration timeout) throws InterruptedException, TimeoutException {
+      timeoutArgNotNull(timeout);
+      final Object v1 = this.referent();
+      if (v1 != null) {
+        return unwrap(v1);
+      }
+      if (!this.lock.tryLock(nanosOf(timeout), TimeUnit.NANOSECONDS)) {
+        throw new TimeoutException("Lazy value initialization timed out");
+      }
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
     }
 
-    @Override
-    public void add(final E1 element1,
-                    final E2 element2,
-                    final E3 element3) {
-      this.deque1.add(wrapNull(element1));
-      this.deque2.add(wrapNull(element2));
-      this.deque3.add(wrapNull(element3));
+    private V getLocked() {
+      final Object v2 = this.referent();
+      if (v2 != null) {
+        return unwrap(v2);
+      }
+      final V newValue = ThSupplier.unchecked(this.initializer).get();
+      this.reference = new SoftReference<>(newValue == null ? NULL_VALUE : newValue);
+      return newValue;
     }
 
     @Override
-    public void addLast(final E1 element1,
-                        final E2 element2,
-                        final E3 element3) {
-      this.deque1.addLast(wrapNull(element1));
-      this.deque2.addLast(wrapNull(element2));
-      this.deque3.addLast(wrapNull(element3));
+    public boolean isInitialized() {
+      return this.referent() != null;
     }
 
     @Override
-    public void push(final E1 element1,
-                     final E2 element2,
-                     final E3 element3) {
-      this.deque1.push(wrapNull(element1));
-      this.deque2.push(wrapNull(element2));
-      this.deque3.push(wrapNull(element3));
+    public String toString() {
+      final Object v = this.referent();
+      return v != null
+        ? "Lazy[" + unwrap(v) + "]"
+        : "Lazy value not initialized yet";
     }
 
-    @Override
-    public void addFirst(final E1 element1,
-                         final E2 element2,
-                         final E3 element3) {
-      this.deque1.addFirst(wrapNull(element1));
-      this.deque2.addFirst(wrapNull(element2));
-      this.deque3.addFirst(wrapNull(element3));
+    private Object referent() {
+      final SoftReference<Object> ref = this.reference;
+      return ref == null ? null : ref.get();
     }
 
-    @Override
-    public boolean isEmpty() {
-      return this.deque1.isEmpty();
+    private static <V> V unwrap(final Object referent) {
+      return referent == NULL_VALUE ? null : Cast.unsafe(referent);
     }
 
-    @Override
-    public int size() {
-      return this.deque1.size();
+    private Object writeReplace() {
+      return lazyOf(this.get());
     }
   }
 
-  private static final class ResourceDequeImpl implements ResourceDeque {
-    private final Deque<AutoCloseable> deque = new ArrayDeque<>();
+  private static final class ResettableLazyImpl<V> implements ResettableLazy<V> {
+    private final Lock lock;
+    private final ThSupplier<? extends V, ?> initializer;
+    private final AtomicReference<State<V>> state;
 
-    private ResourceDequeImpl() {
+    private ResettableLazyImpl(final Lock lock,
+                               final ThSupplier<? extends V, ?> initializer) {
+      this.lock = lock;
+      this.initializer = initializer;
+      this.state = new AtomicReference<>();
     }
 
     @Override
-    public <R extends AutoCloseable> R add(final R resource) {
-      resourceArgNotNull(resource);
-      this.deque.add(resource);
-      return resource;
+    public V get() {
+      final State<V> s1 = this.state.get();
+      if (s1 != null && !s1.stale) {
+        return s1.value;
+      }
+      if (this.lock == null) {
+        return this.compute(s1);
+      }
+      if (s1 == null || !s1.present) {
+        this.lock.lock();
+      } else if (!this.lock.tryLock()) {
+        return s1.value;
+      }
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
     }
 
     @Override
-    public <R extends AutoCloseable> R addLast(final R resource) {
-      resourceArgNotNull(resource);
-      this.deque.addLast(resource);
-      return resource;
+    public V get(final Duration timeout) throws InterruptedException, TimeoutException {
+      timeoutArgNotNull(timeout);
+      final State<V> s1 = this.state.get();
+      if (s1 != null && !s1.stale) {
+        return s1.value;
+      }
+      if (this.lock == null) {
+        return this.compute(s1);
+      }
+      if (s1 == null || !s1.present) {
+        if (!this.lock.tryLock(nanosOf(timeout), TimeUnit.NANOSECONDS)) {
+          throw new TimeoutException("Lazy value initialization timed out");
+        }
+      } else if (!this.lock.tryLock()) {
+        return s1.value;
+      }
+      try {
+        return this.getLocked();
+      } finally {
+        this.lock.unlock();
+      }
     }
 
     @Override
-    public <R extends AutoCloseable> R push(final R resource) {
-      resourceArgNotNull(resource);
-      this.deque.push(resource);
-      return resource;
+    public void invalidate() {
+      State<V> current;
+      do {
+        current = this.state.get();
+      } while (!this.state.compareAndSet(current, current == null
+        ? new State<>(null, false, true)
+        : new State<>(current.value, current.present, true)));
     }
 
     @Override
-    public <R extends AutoCloseable> R addFirst(final R resource) {
-      resourceArgNotNull(resource);
-      this.deque.addFirst(resource);
-      return resource;
+    public V refresh() {
+      if (this.lock == null) {
+        return this.compute(this.state.get());
+      }
+      this.lock.lock();
+      try {
+        return this.compute(this.state.get());
+      } finally {
+        this.lock.unlock();
+      }
     }
 
     @Override
-    public boolean isEmpty() {
-      return this.deque.isEmpty();
+    public boolean isInitialized() {
+      final State<V> current = this.state.get();
+      return current != null && !current.stale;
     }
 
     @Override
-    public int size() {
-      return this.deque.size();
+    public String toString() {
+      final State<V> current = this.state.get();
+      return current != null && current.present
+        ? "Lazy[" + current.value + "]"
+        : "Lazy value not initialized yet";
     }
 
-    private void close(Throwable mainEx) {
-      for (final AutoCloseable resource : this.deque) {
-        try {
-          resource.close();
-        } catch (final Throwable ex) {
-          if (mainEx == null) {
-            mainEx = ex;
-          } else {
-            mainEx.addSuppressed(ex);
-          }
-        }
+    private V getLocked() {
+      final State<V> s2 = this.state.get();
+      if (s2 != null && !s2.stale) {
+        return s2.value;
       }
-      if (mainEx != null) {
-        Throw.unchecked(mainEx);
+      return this.compute(s2);
+    }
+
+    private V compute(final State<V> expected) {
+      final V newValue = ThSupplier.unchecked(this.initializer).get();
+      if (this.state.compareAndSet(expected, new State<>(newValue, true, false))) {
+        return newValue;
+      }
+      final State<V> current = this.state.get();
+      if (this.lock == null && current != null && !current.stale) {
+        return current.value; /* another thread has published the value */
+      }
+      this.state.set(new State<>(newValue, true, true)); /* invalidated during the computation */
+      return newValue;
+    }
+
+    private static final class State<V> {
+      private final V value;
+      private final boolean present;
+      private final boolean stale;
+
+      private State(final V value,
+                    final boolean present,
+                    final boolean stale) {
+        this.value = value;
+        this.present = present;
+        this.stale = stale;
       }
     }
   }
 
-  private static final class InitializedLazy<V> implements Lazy<V>, Serializable {
-    private static final long serialVersionUID = 1L;
-    private final V value;
+  private static final class LazyGroupImpl implements LazyGroup {
+    private final Map<String, GroupNode> nodes;
 
-    private InitializedLazy(final V value) {
-      this.value = value;
+    private LazyGroupImpl() {
+      this.nodes = new LinkedHashMap<>();
     }
 
     @Override
-    public boolean isInitialized() {
-      return true;
+    public LazyGroup add(final String name,
+                         final Lazy<?> lazy,
+                         final String... dependencies) {
+      if (name == null) { throw new NullPointerException("name arg is null"); }
+      if (lazy == null) { throw new NullPointerException("lazy arg is null"); }
+      if (dependencies == null) { throw new NullPointerException("dependencies arg is null"); }
+      for (final String dependency : dependencies) {
+        if (dependency == null) { throw new NullPointerException("dependencies arg contains null"); }
+      }
+      if (this.nodes.containsKey(name)) {
+        throw new IllegalArgumentException("Group already contains " + name + " node");
+      }
+      this.nodes.put(name, new GroupNode(name, lazy, Arrays.asList(dependencies.clone())));
+      return this;
     }
 
     @Override
-    public V get() {
-      return this.value;
+    public Map<String, Duration> initialize(final Executor executor) {
+      executorArgNotNull(executor);
+      final List<GroupNode> order = this.topologicalOrder();
+      final Map<String, CompletableFuture<Duration>> futures = new HashMap<>();
+      for (final GroupNode node : order) {
+        final CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[node.dependencies.size()];
+        for (int idx = 0; idx < dependencyFutures.length; idx++) {
+          dependencyFutures[idx] = futures.get(node.dependencies.get(idx));
+        }
+        futures.put(node.name, CompletableFuture.allOf(dependencyFutures).thenApplyAsync(ignored -> {
+          final long start = System.nanoTime();
+          node.lazy.get();
+          return Duration.ofNanos(System.nanoTime() - start);
+        }, executor));
+      }
+      final Map<String, Duration> initTimes = new LinkedHashMap<>();
+      Throwable failure = null;
+      for (final GroupNode node : order) {
+        try {
+          initTimes.put(node.name, futures.get(node.name).join());
+        } catch (final CompletionException ex) {
+          if (failure == null) {
+            failure = ex.getCause() == null ? ex : ex.getCause();
+          }
+        }
+      }
+      if (failure != null) {
+        throw Throw.unchecked(failure);
+      }
+      return Collections.unmodifiableMap(initTimes);
     }
 
-    @Override
-    public String toString() {
-      return "Lazy[" + this.value + "]";
+    private List<GroupNode> topologicalOrder() {
+      final List<GroupNode> order = new ArrayList<>(this.nodes.size());
+      final Set<String> visited = new HashSet<>();
+      final Set<String> inProgress = new HashSet<>();
+      for (final GroupNode node : this.nodes.values()) {
+        this.visit(node, visited, inProgress, order);
+      }
+      return order;
+    }
+
+    private void visit(final GroupNode node,
+                       final Set<String> visited,
+                       final Set<String> inProgress,
+                       final List<GroupNode> order) {
+      if (visited.contains(node.name)) {
+        return;
+      }
+      if (!inProgress.add(node.name)) {
+        throw new IllegalStateException("Dependency cycle contains " + node.name + " node");
+      }
+      for (final String dependency : node.dependencies) {
+        final GroupNode dependencyNode = this.nodes.get(dependency);
+        if (dependencyNode == null) {
+          throw new IllegalArgumentException(node.name + " node depends on missing " + dependency + " node");
+        }
+        this.visit(dependencyNode, visited, inProgress, order);
+      }
+      inProgress.remove(node.name);
+      visited.add(node.name);
+      order.add(node);
+    }
+
+    private static final class GroupNode {
+      private final String name;
+      private final Lazy<?> lazy;
+      private final List<String> dependencies;
+
+      private GroupNode(final String name,
+                        final Lazy<?> lazy,
+                        final List<String> dependencies) {
+        this.name = name;
+        this.lazy = lazy;
+        this.dependencies = dependencies;
+      }
     }
   }
 
-  private static final class InitializedLazyOfNull<V> implements Lazy<V>, Serializable {
-    private static final long serialVersionUID = 1L;
-    private static final InitializedLazyOfNull<?> INSTANCE = new InitializedLazyOfNull<>();
+  private static final class LazyIntImpl implements LazyInt {
+    private static final AtomicIntegerFieldUpdater<LazyIntImpl> STATE_FIELD_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(LazyIntImpl.class, "state");
+    private final Lazy.ThreadSafetyMode threadSafetyMode;
+    private final Lock lock;
+    private volatile ThSupplierInt<?> initializer;
+    private int value;
+    private volatile int state;
 
-    private InitializedLazyOfNull() {
+    private LazyIntImpl(final Lazy.ThreadSafetyMode threadSafetyMode,
+                        final ThSupplierInt<?> initializer) {
+      this.threadSafetyMode = threadSafetyMode;
+      this.lock = threadSafetyMode == Lazy.ThreadSafetyMode.SYNCHRONIZED ? new ReentrantLock() : null;
+      this.initializer = initializer;
+      this.state = PRIMITIVE_UNINITIALIZED;
     }
 
     @Override
     public boolean isInitialized() {
-      return true;
+      return this.state == PRIMITIVE_INITIALIZED;
     }
 
     @Override
-    public V get() {
-      return null;
+    public int getAsInt() {
+      if (this.state == PRIMITIVE_INITIALIZED) {
+        return this.value;
+      }
+      switch (this.threadSafetyMode) {
+        case SYNCHRONIZED:
+          this.lock.lock();
+          try {
+            if (this.state != PRIMITIVE_INITIALIZED) {
+              this.value = ThSupplierInt.unchecked(this.initializer).getAsInt();
+              this.state = PRIMITIVE_INITIALIZED;
+              this.initializer = null;
+            }
+            return this.value;
+          } finally {
+            this.lock.unlock();
+          }
+        case PUBLICATION:
+          final ThSupplierInt<?> init = this.initializer;
+          if (init != null) {
+            final int newValue = ThSupplierInt.unchecked(init).getAsInt();
+            if (STATE_FIELD_UPDATER.compareAndSet(this, PRIMITIVE_UNINITIALIZED, PRIMITIVE_PUBLISHING)) {
+              this.value = newValue;
+              this.state = PRIMITIVE_INITIALIZED;
+              this.initializer = null;
+              return newValue;
+            }
+          }
+          while (this.state != PRIMITIVE_INITIALIZED) {
+            Platform.onSpinWait();
+          }
+          return this.value;
+        default:
+          final int newValue = ThSupplierInt.unchecked(this.initializer).getAsInt();
+          this.value = newValue;
+          this.state = PRIMITIVE_INITIALIZED;
+          this.initializer = null;
+          return newValue;
+      }
     }
 
     @Override
     public String toString() {
-      return "Lazy[null]";
-    }
-
-    private Object readResolve() {
-      return INSTANCE;
+      return this.state == PRIMITIVE_INITIALIZED
+        ? "Lazy[" + this.value + "]"
+        : "Lazy value not initialized yet";
     }
   }
 
-  private static final class UnsafeLazy<V> implements Lazy<V>, Serializable {
-    private static final long serialVersionUID = 1L;
-    private ThSupplier<? extends V, ?> initializer;
-    private Object value;
+  private static final class LazyLongImpl implements LazyLong {
+    private static final AtomicIntegerFieldUpdater<LazyLongImpl> STATE_FIELD_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(LazyLongImpl.class, "state");
+    private final Lazy.ThreadSafetyMode threadSafetyMode;
+    private final Lock lock;
+    private volatile ThSupplierLong<?> initializer;
+    private long value;
+    private volatile int state;
 
-    private UnsafeLazy(final ThSupplier<? extends V, ?> initializer) {
+    private LazyLongImpl(final Lazy.ThreadSafetyMode threadSafetyMode,
+                         final ThSupplierLong<?> initializer) {
+      this.threadSafetyMode = threadSafetyMode;
+      this.lock = threadSafetyMode == Lazy.ThreadSafetyMode.SYNCHRONIZED ? new ReentrantLock() : null;
       this.initializer = initializer;
-      this.value = UNINITIALIZED_VALUE;
+      this.state = PRIMITIVE_UNINITIALIZED;
     }
 
     @Override
     public boolean isInitialized() {
-      return this.value != UNINITIALIZED_VALUE;
+      return this.state == PRIMITIVE_INITIALIZED;
     }
 
     @Override
-    public V get() {
-      final Object v = this.value;
-      if (v != UNINITIALIZED_VALUE) {
-        return Cast.unsafe(v);
+    public long getAsLong() {
+      if (this.state == PRIMITIVE_INITIALIZED) {
+        return this.value;
       }
-      final ThSupplier<? extends V, ?> init = this.initializer;
-      if (init != null) {
-        final V newValue = ThSupplier.unchecked(init).get();
-        this.value = newValue;
-        this.initializer = null;
-        return newValue;
+      switch (this.threadSafetyMode) {
+        case SYNCHRONIZED:
+          this.lock.lock();
+          try {
+            if (this.state != PRIMITIVE_INITIALIZED) {
+              this.value = ThSupplierLong.unchecked(this.initializer).getAsLong();
+              this.state = PRIMITIVE_INITIALIZED;
+              this.initializer = null;
+            }
+            return this.value;
+          } finally {
+            this.lock.unlock();
+          }
+        case PUBLICATION:
+          final ThSupplierLong<?> init = this.initializer;
+          if (init != null) {
+            final long newValue = ThSupplierLong.unchecked(init).getAsLong();
+            if (STATE_FIELD_UPDATER.compareAndSet(this, PRIMITIVE_UNINITIALIZED, PRIMITIVE_PUBLISHING)) {
+              this.value = newValue;
+              this.state = PRIMITIVE_INITIALIZED;
+              this.initializer = null;
+              return newValue;
+            }
+          }
+          while (this.state != PRIMITIVE_INITIALIZED) {
+            Platform.onSpinWait();
+          }
+          return this.value;
+        default:
+          final long newValue = ThSupplierLong.unchecked(this.initializer).getAsLong();
+          this.value = newValue;
+          this.state = PRIMITIVE_INITIALIZED;
+          this.initializer = null;
+          return newValue;
       }
-      return Cast.unsafe(this.value);
     }
 
     @Override
     public String toString() {
-      return this.isInitialized()
+      return this.state == PRIMITIVE_INITIALIZED
         ? "Lazy[" + this.value + "]"
         : "Lazy value not initialized yet";
     }
-
-    private Object writeReplace() {
-      return lazyOf(this.get());
-    }
   }
 
-  private static final class SafePublicationLazy<V> implements Lazy<V>, Serializable {
-    private static final long serialVersionUID = 1L;
-    private static final AtomicReferenceFieldUpdater<SafePublicationLazy<?>, Object> VALUE_FIELD_UPDATER =
-      Cast.unsafe(AtomicReferenceFieldUpdater.newUpdater(SafePublicationLazy.class, Object.class, "value"));
-    private volatile ThSupplier<? extends V, ?> initializer;
-    private volatile Object value;
+  private static final class LazyDoubleImpl implements LazyDouble {
+    private static final AtomicIntegerFieldUpdater<LazyDoubleImpl> STATE_FIELD_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(LazyDoubleImpl.class, "state");
+    private final Lazy.ThreadSafetyMode threadSafetyMode;
+    private final Lock lock;
+    private volatile ThSupplierDouble<?> initializer;
+    private double value;
+    private volatile int state;
 
-    private SafePublicationLazy(final ThSupplier<? extends V, ?> initializer) {
+    private LazyDoubleImpl(final Lazy.ThreadSafetyMode threadSafetyMode,
+                           final ThSupplierDouble<?> initializer) {
+      this.threadSafetyMode = threadSafetyMode;
+      this.lock = threadSafetyMode == Lazy.ThreadSafetyMode.SYNCHRONIZED ? new ReentrantLock() : null;
       this.initializer = initializer;
-      this.value = UNINITIALIZED_VALUE;
+      this.state = PRIMITIVE_UNINITIALIZED;
     }
 
     @Override
     public boolean isInitialized() {
-      return this.value != UNINITIALIZED_VALUE;
+      return this.state == PRIMITIVE_INITIALIZED;
     }
 
     @Override
-    public V get() {
-      final Object v = this.value;
-      if (v != UNINITIALIZED_VALUE) {
-        return Cast.unsafe(v);
+    public double getAsDouble() {
+      if (this.state == PRIMITIVE_INITIALIZED) {
+        return this.value;
       }
-      final ThSupplier<? extends V, ?> init = this.initializer;
-      if (init != null) {
-        final V newValue = ThSupplier.unchecked(init).get();
-        if (VALUE_FIELD_UPDATER.compareAndSet(this, UNINITIALIZED_VALUE, newValue)) {
+      switch (this.threadSafetyMode) {
+        case SYNCHRONIZED:
+          this.lock.lock();
+          try {
+            if (this.state != PRIMITIVE_INITIALIZED) {
+              this.value = ThSupplierDouble.unchecked(this.initializer).getAsDouble();
+              this.state = PRIMITIVE_INITIALIZED;
+              this.initializer = null;
+            }
+            return this.value;
+          } finally {
+            this.lock.unlock();
+          }
+        case PUBLICATION:
+          final ThSupplierDouble<?> init = this.initializer;
+          if (init != null) {
+            final double newValue = ThSupplierDouble.unchecked(init).getAsDouble();
+            if (STATE_FIELD_UPDATER.compareAndSet(this, PRIMITIVE_UNINITIALIZED, PRIMITIVE_PUBLISHING)) {
+              this.value = newValue;
+              this.state = PRIMITIVE_INITIALIZED;
+              this.initializer = null;
+              return newValue;
+            }
+          }
+          while (this.state != PRIMITIVE_INITIALIZED) {
+            Platform.onSpinWait();
+          }
+          return this.value;
+        default:
+          final double newValue = ThSupplierDouble.unchecked(this.initializer).getAsDouble();
+          this.value = newValue;
+          this.state = PRIMITIVE_INITIALIZED;
           this.initializer = null;
           return newValue;
-        }
       }
-      return Cast.unsafe(this.value);
     }
 
     @Override
     public String toString() {
-      return this.isInitialized()
+      return this.state == PRIMITIVE_INITIALIZED
         ? "Lazy[" + this.value + "]"
         : "Lazy value not initialized yet";
     }
-
-    private Object writeReplace() {
-      return lazyOf(this.get());
-    }
   }
 
-  private static final class SynchronizedLazy<V> implements Lazy<V>, Serializable {
-    private static final long serialVersionUID = 1L;
-    private final Object lock;
-    private ThSupplier<? extends V, ?> initializer;
-    private volatile Object value;
-
-    private SynchronizedLazy(final ThSupplier<? extends V, ?> initializer) {
-      this.lock = this;
-      this.initializer = initializer;
-      this.value = UNINITIALIZED_VALUE;
-    }
+  private static final class ThreadLocalLazy<V> implements Lazy<V> {
+    private static final Object NULL_VALUE = new Object();
+    private static final int MAX_IDLE_VALUES = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private final ThSupplier<? extends V, ?> initializer;
+    private final ThreadLocal<Slot> slots;
+    private final ReferenceQueue<Slot> releasedSlots;
+    private final Set<SlotRef> aliveSlots;
+    private final BlockingQueue<Object> idleValues;
 
-    private SynchronizedLazy(final Object lock,
-                             final ThSupplier<? extends V, ?> initializer) {
-      this.lock = lock;
+    private ThreadLocalLazy(final ThSupplier<? extends V, ?> initializer) {
       this.initializer = initializer;
-      this.value = UNINITIALIZED_VALUE;
-    }
-
-    @Override
-    public boolean isInitialized() {
-      return this.value != UNINITIALIZED_VALUE;
+      this.slots = new ThreadLocal<>();
+      this.releasedSlots = new ReferenceQueue<>();
+      this.aliveSlots = ConcurrentHashMap.newKeySet();
+      this.idleValues = new ArrayBlockingQueue<>(MAX_IDLE_VALUES);
     }
 
     @Override
     public V get() {
-      final Object v1 = this.value;
-      if (v1 != UNINITIALIZED_VALUE) {
-        return Cast.unsafe(v1);
+      final Slot slot = this.slots.get();
+      if (slot != null) {
+        return unwrap(slot.value);
       }
-      synchronized (this.lock) {
-        final Object v2 = this.value;
-        if (v2 != UNINITIALIZED_VALUE) {
-          return Cast.unsafe(v2);
-        }
+      Object v = this.idleValue();
+      if (v == null) {
         final V newValue = ThSupplier.unchecked(this.initializer).get();
-        this.value = newValue;
-        this.initializer = null;
-        return newValue;
+        v = newValue == null ? NULL_VALUE : newValue;
       }
+      final Slot newSlot = new Slot(v);
+      this.aliveSlots.add(new SlotRef(newSlot, this.releasedSlots));
+      this.slots.set(newSlot);
+      return unwrap(v);
+    }
+
+    @Override
+    public boolean isInitialized() {
+      return this.slots.get() != null;
     }
 
     @Override
     public String toString() {
-      return this.isInitialized()
-        ? "Lazy[" + this.value + "]"
+      final Slot slot = this.slots.get();
+      return slot != null
+        ? "Lazy[" + unwrap(slot.value) + "]"
         : "Lazy value not initialized yet";
     }
 
-    private Object writeReplace() {
-      return lazyOf(this.get());
+    /**
+     * Returns a value of a terminated thread or null. Slots of terminated threads are reclaimed by the garbage
+     * collector, their values are no longer used by any thread.
+     */
+    private Object idleValue() {
+      Reference<? extends Slot> ref;
+      while ((ref = this.releasedSlots.poll()) != null) {
+        this.aliveSlots.remove(ref);
+        this.idleValues.offer(((SlotRef) ref).value);
+      }
+      return this.idleValues.poll();
+    }
+
+    private static <V> V unwrap(final Object v) {
+      return v == NULL_VALUE ? null : Cast.unsafe(v);
+    }
+
+    private static final class Slot {
+      private final Object value;
+
+      private Slot(final Object value) {
+        this.value = value;
+      }
+    }
+
+    private static final class SlotRef extends WeakReference<Slot> {
+      private final Object value;
+
+      private SlotRef(final Slot slot,
+                      final ReferenceQueue<Slot> queue) {
+        super(slot, queue);
+        this.value = slot.value;
+      }
     }
   }
 }
@@ -15,12 +15,25 @@
  */
 package com.plugatar.jkscope;
 
+import com.plugatar.jkscope.function.Th2Function;
+import com.plugatar.jkscope.function.ThFunction;
 import com.plugatar.jkscope.function.ThSupplier;
+import com.plugatar.jkscope.util.Cast;
 
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 /**
  * Represents a value with lazy initialization.
+ * <p>
+ * Instances created by {@link JKScope#lazy(ThSupplier)}, {@link JKScope#lazy(Object, ThSupplier)},
+ * {@link JKScope#lazyLock(java.util.concurrent.locks.Lock, ThSupplier)} and
+ * {@link JKScope#lazy(ThreadSafetyMode, ThSupplier)} are serializable. An initialized instance is serialized as its
+ * value. An uninitialized instance with a serializable initializer is serialized as its thread-safety mode and
+ * initializer without calling the initializer, the deserialized instance stays uninitialized and uses its own lock.
+ * Other uninitialized instances are initialized before serialization.
  *
  * @param <V> the type of the value
  */
@@ -41,6 +54,107 @@ public interface Lazy<V> extends ThSupplier<V, RuntimeException>, Supplier<V> {
   @Override
   V get();
 
+  /**
+   * Calculate and return the value waiting for the initialization performed by another thread up to the specified
+   * timeout. The initializer is still called by a single thread, if this thread is the caller, the initialization
+   * itself is not interrupted by the timeout. The default implementation calls {@link #get()}, implementations that
+   * make threads wait for each other override this method.
+   *
+   * <pre>{@code
+   * String value = lazyValue.get(Duration.ofSeconds(1));
+   * }</pre>
+   *
+   * @param timeout the maximum time to wait
+   * @return value
+   * @throws NullPointerException if {@code timeout} arg is null
+   * @throws InterruptedException if the current thread was interrupted while waiting
+   * @throws TimeoutException     if the wait timed out
+   */
+  default V get(final Duration timeout) throws InterruptedException, TimeoutException {
+    if (timeout == null) { throw new NullPointerException("timeout arg is null"); }
+    return this.get();
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance whose value is the result of applying the specified function to the value of
+   * this instance. The returned instance does not initialize this instance until its own value is requested and uses
+   * the same thread-safety mode as this instance. If this instance was created by {@link JKScope#lazyOf(Object)}, the
+   * function is applied immediately and the result is a {@link JKScope#lazyOf(Object)} instance. The result is a
+   * snapshot: it is computed once from the first value and is not recomputed when this instance is invalidated,
+   * expires, reclaims its value or returns another value for another thread.
+   *
+   * <pre>{@code
+   * Lazy<Integer> length = lazyValue.map(String::length);
+   * }</pre>
+   *
+   * @param mapper the function to apply to the value
+   * @param <R>    the type of the result value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code mapper} arg is null
+   */
+  default <R> Lazy<R> map(final ThFunction<? super V, ? extends R, ?> mapper) {
+    if (mapper == null) { throw new NullPointerException("mapper arg is null"); }
+    if (JKScope.isLazyOf(this)) {
+      return JKScope.lazyOf(ThFunction.unchecked(mapper).apply(this.get()));
+    }
+    return JKScope.derivedLazy(this, () -> mapper.apply(this.get()));
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance whose value is the value of the {@link Lazy} instance returned by the specified
+   * function applied to the value of this instance. The returned instance does not initialize this instance until its
+   * own value is requested and uses the same thread-safety mode as this instance. If this instance was created by
+   * {@link JKScope#lazyOf(Object)}, the function is applied immediately and its result is returned. As with
+   * {@link #map(ThFunction)}, the value is a snapshot computed once from the first value of this instance.
+   *
+   * <pre>{@code
+   * Lazy<Connection> connection = lazyConfig.flatMap(config -> pool.connectionFor(config));
+   * }</pre>
+   *
+   * @param mapper the function to apply to the value
+   * @param <R>    the type of the result value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code mapper} arg is null
+   */
+  default <R> Lazy<R> flatMap(final ThFunction<? super V, ? extends Lazy<? extends R>, ?> mapper) {
+    if (mapper == null) { throw new NullPointerException("mapper arg is null"); }
+    if (JKScope.isLazyOf(this)) {
+      final Lazy<? extends R> result = ThFunction.unchecked(mapper).apply(this.get());
+      if (result == null) { throw new NullPointerException("mapper result is null"); }
+      return Cast.unsafe(result);
+    }
+    return JKScope.derivedLazy(this, () -> mapper.apply(this.get()).get());
+  }
+
+  /**
+   * Returns a new {@link Lazy} instance whose value is the result of applying the specified function to the values of
+   * this instance and the specified instance. The returned instance does not initialize any of these instances until
+   * its own value is requested and uses the same thread-safety mode as this instance. If both instances were created by
+   * {@link JKScope#lazyOf(Object)}, the function is applied immediately and the result is a
+   * {@link JKScope#lazyOf(Object)} instance. The value is a snapshot computed once from the first values of both
+   * instances, later changes of their values are not reflected.
+   *
+   * <pre>{@code
+   * Lazy<String> fullName = lazyFirstName.zip(lazyLastName, (first, last) -> first + " " + last);
+   * }</pre>
+   *
+   * @param other  the other Lazy instance
+   * @param zipper the function to apply to the values
+   * @param <U>    the type of the other value
+   * @param <R>    the type of the result value
+   * @return new {@link Lazy} instance
+   * @throws NullPointerException if {@code other} arg is null or {@code zipper} arg is null
+   */
+  default <U, R> Lazy<R> zip(final Lazy<? extends U> other,
+                             final Th2Function<? super V, ? super U, ? extends R, ?> zipper) {
+    if (other == null) { throw new NullPointerException("other arg is null"); }
+    if (zipper == null) { throw new NullPointerException("zipper arg is null"); }
+    if (JKScope.isLazyOf(this) && JKScope.isLazyOf(other)) {
+      return JKScope.lazyOf(Th2Function.unchecked(zipper).apply(this.get(), other.get()));
+    }
+    return JKScope.derivedLazy(this, () -> zipper.apply(this.get(), other.get()));
+  }
+
   /**
    * Specifies how a {@link Lazy} instance synchronizes initialization among multiple threads.
    */
@@ -60,4 +174,90 @@ public interface Lazy<V> extends ThSupplier<V, RuntimeException>, Supplier<V> {
      */
     NONE
   }
+
+  /**
+   * Specifies how a {@link Lazy} instance handles exceptions thrown by the initializer. After a failure the next
+   * initialization attempt is allowed only when the policy delay has elapsed, until then the last exception is thrown
+   * without calling the initializer. Only a single initialization attempt is in flight at a time.
+   */
+  final class FailurePolicy {
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4L;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final boolean backoff;
+
+    private FailurePolicy(final long initialDelayNanos,
+                          final long maxDelayNanos,
+                          final boolean backoff) {
+      this.initialDelayNanos = initialDelayNanos;
+      this.maxDelayNanos = maxDelayNanos;
+      this.backoff = backoff;
+    }
+
+    /**
+     * Returns a policy that caches the initializer exception for the specified duration.
+     *
+     * @param duration the duration for which the exception is cached
+     * @return failure policy
+     * @throws NullPointerException     if {@code duration} arg is null
+     * @throws IllegalArgumentException if {@code duration} arg is zero or negative
+     */
+    public static FailurePolicy cacheFailureFor(final Duration duration) {
+      final long durationNanos = delayNanosOf(duration, "duration");
+      return new FailurePolicy(durationNanos, durationNanos, false);
+    }
+
+    /**
+     * Returns a policy that retries the initialization with exponential backoff and jitter. The delay after the n-th
+     * consecutive failure is {@code initialDelay * 2^(n-1)} limited by {@code maxDelay}, the actual delay is randomly
+     * chosen between half of this value and this value.
+     *
+     * @param initialDelay the delay after the first failure
+     * @param maxDelay     the maximum delay
+     * @return failure policy
+     * @throws NullPointerException     if {@code initialDelay} arg is null or {@code maxDelay} arg is null
+     * @throws IllegalArgumentException if {@code initialDelay} arg is zero or negative or {@code maxDelay} arg is less
+     *                                  than {@code initialDelay} arg
+     */
+    public static FailurePolicy retryWithBackoff(final Duration initialDelay,
+                                                 final Duration maxDelay) {
+      final long initialDelayNanos = delayNanosOf(initialDelay, "initialDelay");
+      final long maxDelayNanos = delayNanosOf(maxDelay, "maxDelay");
+      if (maxDelayNanos < initialDelayNanos) {
+        throw new IllegalArgumentException("maxDelay arg is less than initialDelay arg");
+      }
+      return new FailurePolicy(initialDelayNanos, maxDelayNanos, true);
+    }
+
+    /**
+     * Returns the delay before the next initialization attempt.
+     *
+     * @param failures the number of consecutive failures, at least 1
+     * @return delay in nanoseconds
+     */
+    long delayNanos(final int failures) {
+      if (!this.backoff) {
+        return this.initialDelayNanos;
+      }
+      final int shift = Math.min(failures - 1, 62);
+      final long delay = this.initialDelayNanos > (this.maxDelayNanos >> shift)
+        ? this.maxDelayNanos
+        : this.initialDelayNanos << shift;
+      final long half = delay >> 1;
+      return half + ThreadLocalRandom.current().nextLong(delay - half + 1L);
+    }
+
+    private static long delayNanosOf(final Duration duration,
+                                     final String argName) {
+      if (duration == null) { throw new NullPointerException(argName + " arg is null"); }
+      if (duration.isNegative() || duration.isZero()) {
+        throw new IllegalArgumentException(argName + " arg is zero or negative");
+      }
+      try {
+        return Math.min(duration.toNanos(), MAX_DELAY_NANOS);
+      } catch (final ArithmeticException ex) {
+        return MAX_DELAY_NANOS;
+      }
+    }
+  }
 }
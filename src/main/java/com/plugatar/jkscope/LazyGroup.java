@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Represents a group of named {@link Lazy} instances with dependencies between them. The group initializes all its
+ * instances in parallel, every instance is initialized after all its dependencies. The time to initialize the group is
+ * bounded by the longest dependency chain instead of the sum of all initializers.
+ * <p>
+ * Instances of this interface are not thread-safe, all nodes should be added before the initialization.
+ */
+public interface LazyGroup {
+
+  /**
+   * Adds the specified {@link Lazy} instance to this group.
+   *
+   * @param name         the name of the node
+   * @param lazy         the Lazy instance
+   * @param dependencies the names of the nodes that should be initialized before this node
+   * @return this group
+   * @throws NullPointerException     if {@code name} arg is null or {@code lazy} arg is null or {@code dependencies}
+   *                                  arg is null or contains null
+   * @throws IllegalArgumentException if this group already contains a node with the specified name
+   */
+  LazyGroup add(String name, Lazy<?> lazy, String... dependencies);
+
+  /**
+   * Initializes all instances of this group on the specified executor in topological order and waits for the
+   * initialization to complete. If an initializer throws an exception, nodes depending on it are not initialized and
+   * the exception is thrown after all other nodes are completed.
+   *
+   * @param executor the executor
+   * @return initialization time of each node in topological order
+   * @throws NullPointerException     if {@code executor} arg is null
+   * @throws IllegalArgumentException if a node depends on a node that is not in this group
+   * @throws IllegalStateException    if dependencies contain a cycle
+   */
+  Map<String, Duration> initialize(Executor executor);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.function.ThSupplierInt;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Represents a {@code int} value with lazy initialization. The value is stored unboxed.
+ */
+public interface LazyInt extends ThSupplierInt<RuntimeException>, IntSupplier {
+
+  /**
+   * Returns {@code true} if a value for this Lazy instance has been already initialized, and {@code false} otherwise.
+   *
+   * @return {@code true} if a value for this Lazy instance has been already initialized, and {@code false} otherwise
+   */
+  boolean isInitialized();
+
+  /**
+   * Calculate and return the value.
+   *
+   * @return value
+   */
+  @Override
+  int getAsInt();
+}
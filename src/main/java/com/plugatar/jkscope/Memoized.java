@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+/**
+ * Represents a memoized function backed by a bounded cache.
+ */
+public interface Memoized {
+
+  /**
+   * Returns the number of calls that returned a cached result.
+   *
+   * @return hit count
+   */
+  long hitCount();
+
+  /**
+   * Returns the number of calls that computed a result.
+   *
+   * @return miss count
+   */
+  long missCount();
+
+  /**
+   * Returns the number of results that were evicted from the cache.
+   *
+   * @return eviction count
+   */
+  long evictionCount();
+
+  /**
+   * Returns the number of cached results.
+   *
+   * @return cache size
+   */
+  int size();
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.function.Th2Function;
+
+/**
+ * Represents a memoized function with {@code [Object,Object->Object]} signature.
+ *
+ * @param <T1> the type of the first input argument
+ * @param <T2> the type of the second input argument
+ * @param <R>  the type of the result
+ */
+public interface Memoized2Function<T1, T2, R> extends Th2Function<T1, T2, R, RuntimeException>, Memoized {
+
+  /**
+   * Returns cached result for the given arguments or applies the origin function and caches its result.
+   *
+   * @param t1 the first input argument
+   * @param t2 the second input argument
+   * @return result
+   */
+  @Override
+  R apply(T1 t1, T2 t2);
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.function.ThFunction;
+
+/**
+ * Represents a memoized function with {@code [Object->Object]} signature.
+ *
+ * @param <T> the type of the input argument
+ * @param <R> the type of the result
+ */
+public interface MemoizedFunction<T, R> extends ThFunction<T, R, RuntimeException>, Memoized {
+
+  /**
+   * Returns cached result for the given argument or applies the origin function and caches its result.
+   *
+   * @param t the input argument
+   * @return result
+   */
+  @Override
+  R apply(T t);
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+/**
+ * Runtime platform utility methods.
+ * <p>
+ * Java 8 implementation. Newer runtimes use implementations from {@code META-INF/versions} of the multi-release JAR.
+ */
+final class Platform {
+
+  /**
+   * Utility class ctor.
+   */
+  private Platform() {
+  }
+
+  /**
+   * Indicates that the caller is momentarily unable to progress until some other thread action occurs.
+   */
+  static void onSpinWait() {
+  }
+
+  /**
+   * Returns {@code true} if the runtime supports virtual threads, and {@code false} otherwise.
+   *
+   * @return {@code true} if the runtime supports virtual threads, and {@code false} otherwise
+   */
+  static boolean virtualThreadsSupported() {
+    return false;
+  }
+
+  /**
+   * Returns a new unstarted thread with the specified stack size that does not inherit initial values of inheritable
+   * thread-local variables from the current thread, Java 8 has no way to disable this inheritance, so the values are inherited.
+   *
+   * @param runnable  the runnable
+   * @param name      the thread name
+   * @param stackSize the stack size
+   * @return new thread
+   */
+  static Thread newThread(final Runnable runnable,
+                          final String name,
+                          final long stackSize) {
+    return new Thread(null, runnable, name, stackSize);
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+/**
+ * Represents a value with lazy initialization that can be invalidated and recomputed. The initializer is kept for the
+ * whole life of the instance. Readers that access the value while it is being recomputed keep getting the previous
+ * value.
+ *
+ * @param <V> the type of the value
+ */
+public interface ResettableLazy<V> extends Lazy<V> {
+
+  /**
+   * Marks the value as stale. The next {@link #get()} call recomputes the value, until the new value is published
+   * concurrent callers keep getting the previous value.
+   */
+  void invalidate();
+
+  /**
+   * Recomputes and publishes the value. Concurrent callers keep getting the previous value until the new value is
+   * published.
+   *
+   * @return new value
+   */
+  V refresh();
+
+  /**
+   * Returns {@code true} if a value for this Lazy instance has been initialized and not invalidated since then, and
+   * {@code false} otherwise.
+   *
+   * @return {@code true} if a value for this Lazy instance has been initialized and not invalidated, and {@code false}
+   * otherwise
+   */
+  @Override
+  boolean isInitialized();
+}
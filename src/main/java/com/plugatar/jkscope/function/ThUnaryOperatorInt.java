@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope.function;
+
+import com.plugatar.jkscope.util.Cast;
+
+import static com.plugatar.jkscope.function.Utils.functionArgNotNull;
+import static com.plugatar.jkscope.function.Utils.originArgNotNull;
+
+/**
+ * The {@link java.util.function.IntUnaryOperator} specialization with {@code [int->int]} signature that might throw
+ * an exception.
+ *
+ * @param <E> the type of the throwing exception
+ */
+@FunctionalInterface
+public interface ThUnaryOperatorInt<E extends Throwable> {
+
+  /**
+   * Applies this operator to the given argument.
+   *
+   * @param value the input argument
+   * @return result
+   * @throws E if operator threw exception
+   */
+  int applyAsInt(int value) throws E;
+
+  /**
+   * Returns given operator.
+   *
+   * @param function the operator
+   * @param <E>      the type of the throwing exception
+   * @return operator
+   * @throws NullPointerException if {@code function} arg is {@code null}
+   */
+  static <E extends Throwable> ThUnaryOperatorInt<E> of(final ThUnaryOperatorInt<? extends E> function) {
+    functionArgNotNull(function);
+    return Cast.unsafe(function);
+  }
+
+  /**
+   * Returns given operator as an unchecked operator.
+   *
+   * @param origin the origin operator
+   * @return unchecked operator
+   * @throws NullPointerException if {@code origin} arg is {@code null}
+   */
+  static ThUnaryOperatorInt<RuntimeException> unchecked(final ThUnaryOperatorInt<?> origin) {
+    originArgNotNull(origin);
+    return Cast.unsafe(origin);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+/**
+ * Runtime platform utility methods.
+ * <p>
+ * Java 21 implementation.
+ */
+final class Platform {
+
+  /**
+   * Utility class ctor.
+   */
+  private Platform() {
+  }
+
+  /**
+   * Indicates that the caller is momentarily unable to progress until some other thread action occurs.
+   */
+  static void onSpinWait() {
+    Thread.onSpinWait();
+  }
+
+  /**
+   * Returns {@code true} if the runtime supports virtual threads, and {@code false} otherwise.
+   *
+   * @return {@code true} if the runtime supports virtual threads, and {@code false} otherwise
+   */
+  static boolean virtualThreadsSupported() {
+    return true;
+  }
+
+  /**
+   * Returns a new unstarted thread with the specified stack size that does not inherit initial values of inheritable
+   * thread-local variables from the current thread.
+   *
+   * @param runnable  the runnable
+   * @param name      the thread name
+   * @param stackSize the stack size
+   * @return new thread
+   */
+  static Thread newThread(final Runnable runnable,
+                          final String name,
+                          final long stackSize) {
+    return new Thread(null, runnable, name, stackSize, false);
+  }
+}
@@ -0,0 +1,693 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.JKScope.Trampoline;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.plugatar.jkscope.JKScope.it;
+import static com.plugatar.jkscope.JKScope.iterate1;
+import static com.plugatar.jkscope.JKScope.iterate2;
+import static com.plugatar.jkscope.JKScope.iterate3;
+import static com.plugatar.jkscope.JKScope.iterateOver;
+import static com.plugatar.jkscope.JKScope.lazy;
+import static com.plugatar.jkscope.JKScope.lazyAsync;
+import static com.plugatar.jkscope.JKScope.lazyDouble;
+import static com.plugatar.jkscope.JKScope.lazyGroup;
+import static com.plugatar.jkscope.JKScope.lazyInt;
+import static com.plugatar.jkscope.JKScope.lazyLock;
+import static com.plugatar.jkscope.JKScope.lazyLong;
+import static com.plugatar.jkscope.JKScope.lazyOf;
+import static com.plugatar.jkscope.JKScope.lazyResettable;
+import static com.plugatar.jkscope.JKScope.lazySoft;
+import static com.plugatar.jkscope.JKScope.lazyThreadLocal;
+import static com.plugatar.jkscope.JKScope.let;
+import static com.plugatar.jkscope.JKScope.memoize;
+import static com.plugatar.jkscope.JKScope.recur;
+import static com.plugatar.jkscope.JKScope.recur1;
+import static com.plugatar.jkscope.JKScope.recur2;
+import static com.plugatar.jkscope.JKScope.recur3;
+import static com.plugatar.jkscope.JKScope.recurInt;
+import static com.plugatar.jkscope.JKScope.recurLong;
+import static com.plugatar.jkscope.JKScope.recurMemo1;
+import static com.plugatar.jkscope.JKScope.recurMemo2;
+import static com.plugatar.jkscope.JKScope.recurOnLargeStack;
+import static com.plugatar.jkscope.JKScope.recurParallel1;
+import static com.plugatar.jkscope.JKScope.repeat;
+import static com.plugatar.jkscope.JKScope.repeat1;
+import static com.plugatar.jkscope.JKScope.repeat2;
+import static com.plugatar.jkscope.JKScope.repeat3;
+import static com.plugatar.jkscope.JKScope.trampoline1;
+import static com.plugatar.jkscope.JKScope.trampoline2;
+import static com.plugatar.jkscope.JKScope.use;
+import static com.plugatar.jkscope.JKScope.with;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budget tests for JKScope methods. Every method is called {@value #WARMUP_CALLS} times to warm up and then
+ * {@value #MEASURED_CALLS} times under measurement via {@code com.sun.management.ThreadMXBean}. The number of bytes
+ * allocated by the measured calls must not exceed the method budget multiplied by the number of calls plus a small
+ * allowance for one-off allocations of the runtime, such as objects rematerialized on deoptimization.
+ */
+final class AllocationTest {
+  private static final int WARMUP_CALLS = 20_000;
+  private static final int MEASURED_CALLS = 20_000;
+  private static final long ONE_OFF_ALLOWANCE = 64L * 1024L;
+  private static final long ZERO_BUDGET = 0L;
+  private static final long DEQUE_BUDGET = 256L;
+  private static final long RECUR_BUDGET = 32L;
+  private static final long RECUR_SELF_BUDGET = 128L;
+  private static final long RECUR_PARALLEL_BUDGET = 256L;
+  private static final long ITERATOR_BUDGET = 64L;
+  private static final long ITERATOR_ARG_BUDGET = 128L;
+  private static final long LARGE_STACK_BUDGET = 512L;
+  private static final long TRAMPOLINE_BUDGET = 512L;
+  private static final long RECUR_MEMO_BUDGET = 512L;
+  private static final long MEMOIZE_BUDGET = 2048L;
+  private static final long KEY_BUDGET = 64L;
+  private static final long LAZY_BUDGET = 256L;
+  private static final long THREAD_LOCAL_LAZY_BUDGET = 1024L;
+  private static final long ASYNC_LAZY_BUDGET = 512L;
+  private static final long LAZY_GROUP_BUDGET = 4096L;
+  private static final Object VALUE1 = new Object();
+  private static final Object VALUE2 = new Object();
+  private static final Object VALUE3 = new Object();
+  private static final Object VALUE4 = new Object();
+  private static final Object VALUE5 = new Object();
+  private static final Object ACC = new Object();
+  private static final Object[] ARRAY = {VALUE1, VALUE2, VALUE3};
+  private static final AutoCloseable RESOURCE1 = () -> { };
+  private static final AutoCloseable RESOURCE2 = () -> { };
+  private static final AutoCloseable RESOURCE3 = () -> { };
+  private static final List<Object> LIST = Arrays.asList(ARRAY);
+  private static final Map<Object, Object> MAP = new HashMap<>();
+  private static final ForkJoinPool POOL = ForkJoinPool.commonPool();
+  private static final Executor EXECUTOR = Runnable::run;
+  private static final long STACK_SIZE = 4L * 1024L * 1024L;
+  private static final Lock LOCK = new ReentrantLock();
+  private static final Lazy.FailurePolicy FAILURE_POLICY = Lazy.FailurePolicy.cacheFailureFor(Duration.ofDays(1));
+  private static final Duration EXPIRE_AFTER_WRITE = Duration.ofDays(2);
+  private static final Duration REFRESH_AFTER_WRITE = Duration.ofDays(1);
+  private static final Lazy<Object> LAZY = lazyOf(VALUE1);
+
+  static {
+    MAP.put(VALUE1, VALUE2);
+    MAP.put(VALUE3, VALUE4);
+  }
+
+  @Test
+  void withMethodsDoNotAllocate() {
+    assertBudget("with(ThRunnable)", ZERO_BUDGET, () ->
+      with(() -> { })
+    );
+    assertBudget("with(Object, ThConsumer)", ZERO_BUDGET, () ->
+      with(VALUE1, v -> { })
+    );
+    assertBudget("with(Object, Object, Th2Consumer)", ZERO_BUDGET, () ->
+      with(VALUE1, VALUE2, (v1, v2) -> { })
+    );
+    assertBudget("with(Object, Object, Object, Th3Consumer)", ZERO_BUDGET, () ->
+      with(VALUE1, VALUE2, VALUE3, (v1, v2, v3) -> { })
+    );
+    assertBudget("with(Object, Object, Object, Object, Th4Consumer)", ZERO_BUDGET, () ->
+      with(VALUE1, VALUE2, VALUE3, VALUE4, (v1, v2, v3, v4) -> { })
+    );
+    assertBudget("with(Object, Object, Object, Object, Object, Th5Consumer)", ZERO_BUDGET, () ->
+      with(VALUE1, VALUE2, VALUE3, VALUE4, VALUE5, (v1, v2, v3, v4, v5) -> { })
+    );
+  }
+
+  @Test
+  void letMethodsDoNotAllocate() {
+    assertBudget("let(ThSupplier)", ZERO_BUDGET, () ->
+      let(() -> VALUE1)
+    );
+    assertBudget("let(Object, ThFunction)", ZERO_BUDGET, () ->
+      let(VALUE1, v -> v)
+    );
+    assertBudget("let(Object, Object, Th2Function)", ZERO_BUDGET, () ->
+      let(VALUE1, VALUE2, (v1, v2) -> v2)
+    );
+    assertBudget("let(Object, Object, Object, Th3Function)", ZERO_BUDGET, () ->
+      let(VALUE1, VALUE2, VALUE3, (v1, v2, v3) -> v3)
+    );
+    assertBudget("let(Object, Object, Object, Object, Th4Function)", ZERO_BUDGET, () ->
+      let(VALUE1, VALUE2, VALUE3, VALUE4, (v1, v2, v3, v4) -> v4)
+    );
+    assertBudget("let(Object, Object, Object, Object, Object, Th5Function)", ZERO_BUDGET, () ->
+      let(VALUE1, VALUE2, VALUE3, VALUE4, VALUE5, (v1, v2, v3, v4, v5) -> v5)
+    );
+  }
+
+  @Test
+  void itMethodsDoNotAllocate() {
+    assertBudget("it(ThSupplier)", ZERO_BUDGET, () ->
+      it(() -> VALUE1)
+    );
+    assertBudget("it(Object, ThConsumer)", ZERO_BUDGET, () ->
+      it(VALUE1, v -> { })
+    );
+    assertBudget("it(Object, Object, Th2Consumer)", ZERO_BUDGET, () ->
+      it(VALUE1, VALUE2, (v, a) -> { })
+    );
+    assertBudget("it(Object, Object, Object, Th3Consumer)", ZERO_BUDGET, () ->
+      it(VALUE1, VALUE2, VALUE3, (v, a1, a2) -> { })
+    );
+    assertBudget("it(Object, Object, Object, Object, Th4Consumer)", ZERO_BUDGET, () ->
+      it(VALUE1, VALUE2, VALUE3, VALUE4, (v, a1, a2, a3) -> { })
+    );
+    assertBudget("it(Object, Object, Object, Object, Object, Th5Consumer)", ZERO_BUDGET, () ->
+      it(VALUE1, VALUE2, VALUE3, VALUE4, VALUE5, (v, a1, a2, a3, a4) -> { })
+    );
+  }
+
+  @Test
+  void repeatMethodsDoNotAllocate() {
+    assertBudget("repeat(int, ThRunnable)", ZERO_BUDGET, () ->
+      repeat(3, () -> { })
+    );
+    assertBudget("repeat(int, ThConsumerInt)", ZERO_BUDGET, () ->
+      repeat(3, idx -> { })
+    );
+    assertBudget("repeat(int, Object, ThConsumer)", ZERO_BUDGET, () ->
+      repeat(3, ACC, acc -> { })
+    );
+    assertBudget("repeat(int, Object, Th2ConsumerIntObj)", ZERO_BUDGET, () ->
+      repeat(3, ACC, (idx, acc) -> { })
+    );
+    assertBudget("repeat1(int, Object, ThConsumer)", ZERO_BUDGET, () ->
+      repeat1(3, VALUE1, v -> { })
+    );
+    assertBudget("repeat1(int, Object, Th2ConsumerIntObj)", ZERO_BUDGET, () ->
+      repeat1(3, VALUE1, (idx, v) -> { })
+    );
+    assertBudget("repeat1(int, Object, Object, Th2Consumer)", ZERO_BUDGET, () ->
+      repeat1(3, VALUE1, ACC, (v, acc) -> { })
+    );
+    assertBudget("repeat1(int, Object, Object, Th3ConsumerIntObj2)", ZERO_BUDGET, () ->
+      repeat1(3, VALUE1, ACC, (idx, v, acc) -> { })
+    );
+    assertBudget("repeat2(int, Object, Object, Th2Consumer)", ZERO_BUDGET, () ->
+      repeat2(3, VALUE1, VALUE2, (v1, v2) -> { })
+    );
+    assertBudget("repeat2(int, Object, Object, Th3ConsumerIntObj2)", ZERO_BUDGET, () ->
+      repeat2(3, VALUE1, VALUE2, (idx, v1, v2) -> { })
+    );
+    assertBudget("repeat2(int, Object, Object, Object, Th3Consumer)", ZERO_BUDGET, () ->
+      repeat2(3, VALUE1, VALUE2, ACC, (v1, v2, acc) -> { })
+    );
+    assertBudget("repeat2(int, Object, Object, Object, Th4ConsumerIntObj3)", ZERO_BUDGET, () ->
+      repeat2(3, VALUE1, VALUE2, ACC, (idx, v1, v2, acc) -> { })
+    );
+    assertBudget("repeat3(int, Object, Object, Object, Th3Consumer)", ZERO_BUDGET, () ->
+      repeat3(3, VALUE1, VALUE2, VALUE3, (v1, v2, v3) -> { })
+    );
+    assertBudget("repeat3(int, Object, Object, Object, Th4ConsumerIntObj3)", ZERO_BUDGET, () ->
+      repeat3(3, VALUE1, VALUE2, VALUE3, (idx, v1, v2, v3) -> { })
+    );
+    assertBudget("repeat3(int, Object, Object, Object, Object, Th4Consumer)", ZERO_BUDGET, () ->
+      repeat3(3, VALUE1, VALUE2, VALUE3, ACC, (v1, v2, v3, acc) -> { })
+    );
+    assertBudget("repeat3(int, Object, Object, Object, Object, Th5ConsumerIntObj4)", ZERO_BUDGET, () ->
+      repeat3(3, VALUE1, VALUE2, VALUE3, ACC, (idx, v1, v2, v3, acc) -> { })
+    );
+  }
+
+  @Test
+  void iterateOverArrayMethodsDoNotAllocate() {
+    assertBudget("iterateOver(Object[], ThConsumer)", ZERO_BUDGET, () ->
+      iterateOver(ARRAY, element -> { })
+    );
+    assertBudget("iterateOver(Object[], Th2ConsumerIntObj)", ZERO_BUDGET, () ->
+      iterateOver(ARRAY, (idx, element) -> { })
+    );
+    assertBudget("iterateOver(Object[], Object, Th2Consumer)", ZERO_BUDGET, () ->
+      iterateOver(ARRAY, ACC, (element, acc) -> { })
+    );
+    assertBudget("iterateOver(Object[], Object, Th3ConsumerIntObj2)", ZERO_BUDGET, () ->
+      iterateOver(ARRAY, ACC, (idx, element, acc) -> { })
+    );
+  }
+
+  @Test
+  void iterateOverIterableMethodsAllocationIsBounded() {
+    assertBudget("iterateOver(Iterable, ThConsumer)", ITERATOR_BUDGET, () ->
+      iterateOver(LIST, element -> { })
+    );
+    assertBudget("iterateOver(Iterable, Th2ConsumerIntObj)", ITERATOR_BUDGET, () ->
+      iterateOver(LIST, (idx, element) -> { })
+    );
+    assertBudget("iterateOver(Iterable, Object, Th2Consumer)", ITERATOR_BUDGET, () ->
+      iterateOver(LIST, ACC, (element, acc) -> { })
+    );
+    assertBudget("iterateOver(Iterable, Object, Th3ConsumerIntObj2)", ITERATOR_BUDGET, () ->
+      iterateOver(LIST, ACC, (idx, element, acc) -> { })
+    );
+  }
+
+  @Test
+  void iterateOverIteratorMethodsAllocationIsBounded() {
+    assertBudget("iterateOver(Iterator, ThConsumer)", ITERATOR_ARG_BUDGET, () ->
+      iterateOver(LIST.iterator(), element -> { })
+    );
+    assertBudget("iterateOver(Iterator, Th2ConsumerIntObj)", ITERATOR_ARG_BUDGET, () ->
+      iterateOver(LIST.iterator(), (idx, element) -> { })
+    );
+    assertBudget("iterateOver(Iterator, Object, Th2Consumer)", ITERATOR_ARG_BUDGET, () ->
+      iterateOver(LIST.iterator(), ACC, (element, acc) -> { })
+    );
+    assertBudget("iterateOver(Iterator, Object, Th3ConsumerIntObj2)", ITERATOR_ARG_BUDGET, () ->
+      iterateOver(LIST.iterator(), ACC, (idx, element, acc) -> { })
+    );
+  }
+
+  @Test
+  void iterateOverMapMethodsAllocationIsBounded() {
+    assertBudget("iterateOver(Map, Th2Consumer)", ITERATOR_BUDGET, () ->
+      iterateOver(MAP, (key, value) -> { })
+    );
+    assertBudget("iterateOver(Map, Th3ConsumerIntObj2)", ITERATOR_BUDGET, () ->
+      iterateOver(MAP, (idx, key, value) -> { })
+    );
+    assertBudget("iterateOver(Map, Object, Th3Consumer)", ITERATOR_BUDGET, () ->
+      iterateOver(MAP, ACC, (key, value, acc) -> { })
+    );
+    assertBudget("iterateOver(Map, Object, Th4ConsumerIntObj3)", ITERATOR_BUDGET, () ->
+      iterateOver(MAP, ACC, (idx, key, value, acc) -> { })
+    );
+  }
+
+  @Test
+  void useMethodsAllocationIsBounded() {
+    assertBudget("use(AutoCloseable, ThConsumer)", ZERO_BUDGET, () ->
+      use(RESOURCE1, r -> { })
+    );
+    assertBudget("use(AutoCloseable, AutoCloseable, Th2Consumer)", ZERO_BUDGET, () ->
+      use(RESOURCE1, RESOURCE2, (r1, r2) -> { })
+    );
+    assertBudget("use(AutoCloseable, AutoCloseable, AutoCloseable, Th3Consumer)", ZERO_BUDGET, () ->
+      use(RESOURCE1, RESOURCE2, RESOURCE3, (r1, r2, r3) -> { })
+    );
+    assertBudget("use(AutoCloseable, ThFunction)", ZERO_BUDGET, () ->
+      use(RESOURCE1, r -> r)
+    );
+    assertBudget("use(AutoCloseable, AutoCloseable, Th2Function)", ZERO_BUDGET, () ->
+      use(RESOURCE1, RESOURCE2, (r1, r2) -> r2)
+    );
+    assertBudget("use(AutoCloseable, AutoCloseable, AutoCloseable, Th3Function)", ZERO_BUDGET, () ->
+      use(RESOURCE1, RESOURCE2, RESOURCE3, (r1, r2, r3) -> r3)
+    );
+    assertBudget("use(ThConsumer)", DEQUE_BUDGET, () ->
+      use(resources -> { resources.push(RESOURCE1); })
+    );
+    assertBudget("use(AutoCloseable, Th2Consumer)", DEQUE_BUDGET, () ->
+      use(RESOURCE1, (r, resources) -> { })
+    );
+    assertBudget("use(AutoCloseable, AutoCloseable, Th3Consumer)", DEQUE_BUDGET, () ->
+      use(RESOURCE1, RESOURCE2, (r1, r2, resources) -> { })
+    );
+    assertBudget("use(AutoCloseable, AutoCloseable, AutoCloseable, Th4Consumer)", DEQUE_BUDGET, () ->
+      use(RESOURCE1, RESOURCE2, RESOURCE3, (r1, r2, r3, resources) -> { })
+    );
+    assertBudget("use(ThFunction)", DEQUE_BUDGET, () ->
+      use(resources -> { return resources.push(RESOURCE1); })
+    );
+    assertBudget("use(AutoCloseable, Th2Function)", DEQUE_BUDGET, () ->
+      use(RESOURCE1, (r, resources) -> r)
+    );
+    assertBudget("use(AutoCloseable, AutoCloseable, Th3Function)", DEQUE_BUDGET, () ->
+      use(RESOURCE1, RESOURCE2, (r1, r2, resources) -> r2)
+    );
+    assertBudget("use(AutoCloseable, AutoCloseable, AutoCloseable, Th4Function)", DEQUE_BUDGET, () ->
+      use(RESOURCE1, RESOURCE2, RESOURCE3, (r1, r2, r3, resources) -> r3)
+    );
+  }
+
+  @Test
+  void iterateMethodsAllocationIsBounded() {
+    assertBudget("iterate1(Object, Th2Consumer)", DEQUE_BUDGET, () ->
+      iterate1(VALUE1, (v, nextValues) -> { })
+    );
+    assertBudget("iterate1(Object, Th3ConsumerIntObj2)", DEQUE_BUDGET, () ->
+      iterate1(VALUE1, (idx, v, nextValues) -> { })
+    );
+    assertBudget("iterate1(Object, Object, Th3Consumer)", DEQUE_BUDGET, () ->
+      iterate1(VALUE1, ACC, (v, acc, nextValues) -> { })
+    );
+    assertBudget("iterate1(Object, Object, Th4ConsumerIntObj3)", DEQUE_BUDGET, () ->
+      iterate1(VALUE1, ACC, (idx, v, acc, nextValues) -> { })
+    );
+    assertBudget("iterate2(Object, Object, Th3Consumer)", 2 * DEQUE_BUDGET, () ->
+      iterate2(VALUE1, VALUE2, (v1, v2, nextValues) -> { })
+    );
+    assertBudget("iterate2(Object, Object, Th4ConsumerIntObj3)", 2 * DEQUE_BUDGET, () ->
+      iterate2(VALUE1, VALUE2, (idx, v1, v2, nextValues) -> { })
+    );
+    assertBudget("iterate2(Object, Object, Object, Th4Consumer)", 2 * DEQUE_BUDGET, () ->
+      iterate2(VALUE1, VALUE2, ACC, (v1, v2, acc, nextValues) -> { })
+    );
+    assertBudget("iterate2(Object, Object, Object, Th5ConsumerIntObj4)", 2 * DEQUE_BUDGET, () ->
+      iterate2(VALUE1, VALUE2, ACC, (idx, v1, v2, acc, nextValues) -> { })
+    );
+    assertBudget("iterate3(Object, Object, Object, Th4Consumer)", 3 * DEQUE_BUDGET, () ->
+      iterate3(VALUE1, VALUE2, VALUE3, (v1, v2, v3, nextValues) -> { })
+    );
+    assertBudget("iterate3(Object, Object, Object, Th5ConsumerIntObj4)", 3 * DEQUE_BUDGET, () ->
+      iterate3(VALUE1, VALUE2, VALUE3, (idx, v1, v2, v3, nextValues) -> { })
+    );
+    assertBudget("iterate3(Object, Object, Object, Object, Th5Consumer)", 3 * DEQUE_BUDGET, () ->
+      iterate3(VALUE1, VALUE2, VALUE3, ACC, (v1, v2, v3, acc, nextValues) -> { })
+    );
+    assertBudget("iterate3(Object, Object, Object, Object, Th6ConsumerIntObj5)", 3 * DEQUE_BUDGET, () ->
+      iterate3(VALUE1, VALUE2, VALUE3, ACC, (idx, v1, v2, v3, acc, nextValues) -> { })
+    );
+  }
+
+  @Test
+  void recurMethodsAllocationIsBounded() {
+    assertBudget("recur(ThConsumer)", RECUR_SELF_BUDGET, () ->
+      recur(self -> { })
+    );
+    assertBudget("recur(Th2Consumer)", RECUR_SELF_BUDGET, () ->
+      recur((depth, self) -> { if (depth.current() < 3) { self.run(); } })
+    );
+    assertBudget("recur(Object, Th2Consumer)", RECUR_SELF_BUDGET, () ->
+      recur(ACC, (acc, self) -> { })
+    );
+    assertBudget("recur(Object, Th3Consumer)", RECUR_SELF_BUDGET, () ->
+      recur(ACC, (depth, acc, self) -> { if (depth.current() < 3) { self.run(); } })
+    );
+    assertBudget("recur1(Object, Th2Consumer)", RECUR_SELF_BUDGET, () ->
+      recur1(3, (v, self) -> { if (v > 0) { self.accept(v - 1); } })
+    );
+    assertBudget("recur1(Object, Th3Consumer)", RECUR_SELF_BUDGET, () ->
+      recur1(VALUE1, (depth, v, self) -> { if (depth.current() < 3) { self.accept(v); } })
+    );
+    assertBudget("recur1(Object, Object, Th3Consumer)", RECUR_SELF_BUDGET, () ->
+      recur1(3, ACC, (v, acc, self) -> { if (v > 0) { self.accept(v - 1); } })
+    );
+    assertBudget("recur1(Object, Object, Th4Consumer)", RECUR_SELF_BUDGET, () ->
+      recur1(VALUE1, ACC, (depth, v, acc, self) -> { if (depth.current() < 3) { self.accept(v); } })
+    );
+    assertBudget("recur2(Object, Object, Th3Consumer)", RECUR_SELF_BUDGET, () ->
+      recur2(3, VALUE2, (v1, v2, self) -> { if (v1 > 0) { self.accept(v1 - 1, v2); } })
+    );
+    assertBudget("recur2(Object, Object, Th4Consumer)", RECUR_SELF_BUDGET, () ->
+      recur2(VALUE1, VALUE2, (depth, v1, v2, self) -> { if (depth.current() < 3) { self.accept(v1, v2); } })
+    );
+    assertBudget("recur2(Object, Object, Object, Th4Consumer)", RECUR_SELF_BUDGET, () ->
+      recur2(3, VALUE2, ACC, (v1, v2, acc, self) -> { if (v1 > 0) { self.accept(v1 - 1, v2); } })
+    );
+    assertBudget("recur2(Object, Object, Object, Th5Consumer)", RECUR_SELF_BUDGET, () ->
+      recur2(VALUE1, VALUE2, ACC, (depth, v1, v2, acc, self) -> { if (depth.current() < 3) { self.accept(v1, v2); } })
+    );
+    assertBudget("recur3(Object, Object, Object, Th4Consumer)", RECUR_SELF_BUDGET, () ->
+      recur3(3, VALUE2, VALUE3, (v1, v2, v3, self) -> { if (v1 > 0) { self.accept(v1 - 1, v2, v3); } })
+    );
+    assertBudget("recur3(Object, Object, Object, Th5Consumer)", RECUR_SELF_BUDGET, () ->
+      recur3(VALUE1, VALUE2, VALUE3, (depth, v1, v2, v3, self) -> {
+        if (depth.current() < 3) { self.accept(v1, v2, v3); }
+      })
+    );
+    assertBudget("recur3(Object, Object, Object, Object, Th5Consumer)", RECUR_SELF_BUDGET, () ->
+      recur3(3, VALUE2, VALUE3, ACC, (v1, v2, v3, acc, self) -> { if (v1 > 0) { self.accept(v1 - 1, v2, v3); } })
+    );
+    assertBudget("recur3(Object, Object, Object, Object, Th6Consumer)", RECUR_SELF_BUDGET, () ->
+      recur3(VALUE1, VALUE2, VALUE3, ACC, (depth, v1, v2, v3, acc, self) -> {
+        if (depth.current() < 3) { self.accept(v1, v2, v3); }
+      })
+    );
+    assertBudget("recur(ThFunction)", RECUR_SELF_BUDGET, () ->
+      recur(self -> VALUE1)
+    );
+    assertBudget("recur(Th2Function)", RECUR_SELF_BUDGET, () ->
+      recur((depth, self) -> depth.current() < 3 ? self.get() : VALUE1)
+    );
+    assertBudget("recur1(Object, Th2Function)", RECUR_SELF_BUDGET, () ->
+      recur1(3, (v, self) -> v > 0 ? self.apply(v - 1) : v)
+    );
+    assertBudget("recur1(Object, Th3Function)", RECUR_SELF_BUDGET, () ->
+      recur1(VALUE1, (depth, v, self) -> depth.current() < 3 ? self.apply(v) : v)
+    );
+    assertBudget("recur2(Object, Object, Th3Function)", RECUR_SELF_BUDGET, () ->
+      recur2(3, VALUE2, (v1, v2, self) -> v1 > 0 ? self.apply(v1 - 1, v2) : v2)
+    );
+    assertBudget("recur2(Object, Object, Th4Function)", RECUR_SELF_BUDGET, () ->
+      recur2(VALUE1, VALUE2, (depth, v1, v2, self) -> depth.current() < 3 ? self.apply(v1, v2) : v2)
+    );
+    assertBudget("recur3(Object, Object, Object, Th4Function)", RECUR_SELF_BUDGET, () ->
+      recur3(3, VALUE2, VALUE3, (v1, v2, v3, self) -> v1 > 0 ? self.apply(v1 - 1, v2, v3) : v3)
+    );
+    assertBudget("recur3(Object, Object, Object, Th5Function)", RECUR_SELF_BUDGET, () ->
+      recur3(VALUE1, VALUE2, VALUE3, (depth, v1, v2, v3, self) -> depth.current() < 3 ? self.apply(v1, v2, v3) : v3)
+    );
+  }
+
+  @Test
+  void recurOnLargeStackMethodsAllocationIsBounded() {
+    assertBudget("recurOnLargeStack(long, ThRunnable)", LARGE_STACK_BUDGET, () ->
+      recurOnLargeStack(STACK_SIZE, () -> { })
+    );
+    assertBudget("recurOnLargeStack(long, ThSupplier)", LARGE_STACK_BUDGET, () ->
+      recurOnLargeStack(STACK_SIZE, () -> VALUE1)
+    );
+  }
+
+  @Test
+  void trampolineMethodsAllocationIsBounded() {
+    assertBudget("trampoline1(Object, Th2Consumer)", TRAMPOLINE_BUDGET, () ->
+      trampoline1(3, (v, self) -> { if (v > 0) { self.accept(v - 1); } })
+    );
+    assertBudget("trampoline1(Object, Object, Th3Consumer)", TRAMPOLINE_BUDGET, () ->
+      trampoline1(3, ACC, (v, acc, self) -> { if (v > 0) { self.accept(v - 1); } })
+    );
+    assertBudget("trampoline2(Object, Object, Th3Consumer)", TRAMPOLINE_BUDGET, () ->
+      trampoline2(3, VALUE2, (v1, v2, self) -> { if (v1 > 0) { self.accept(v1 - 1, v2); } })
+    );
+    assertBudget("trampoline1(Object, Th2Function)", TRAMPOLINE_BUDGET, () ->
+      trampoline1(3, (v, self) -> v > 0 ? self.apply(v - 1) : Trampoline.done(v))
+    );
+    assertBudget("trampoline2(Object, Object, Th3Function)", TRAMPOLINE_BUDGET, () ->
+      trampoline2(3, VALUE2, (v1, v2, self) -> v1 > 0 ? self.apply(v1 - 1, v2) : Trampoline.done(v2))
+    );
+  }
+
+  @Test
+  void recurMemoMethodsAllocationIsBounded() {
+    assertBudget("recurMemo1(Object, Th2Function)", RECUR_MEMO_BUDGET, () ->
+      recurMemo1(3, (v, self) -> v > 0 ? self.apply(v - 1) : v)
+    );
+    assertBudget("recurMemo1(Object, int, Th2Function)", RECUR_MEMO_BUDGET, () ->
+      recurMemo1(3, 4, (v, self) -> v > 0 ? self.apply(v - 1) : v)
+    );
+    assertBudget("recurMemo2(Object, Object, Th3Function)", RECUR_MEMO_BUDGET, () ->
+      recurMemo2(3, VALUE2, (v1, v2, self) -> v1 > 0 ? self.apply(v1 - 1, v2) : v2)
+    );
+    assertBudget("recurMemo2(Object, Object, int, Th3Function)", RECUR_MEMO_BUDGET, () ->
+      recurMemo2(3, VALUE2, 4, (v1, v2, self) -> v1 > 0 ? self.apply(v1 - 1, v2) : v2)
+    );
+  }
+
+  @Test
+  void recurParallelMethodsAllocationIsBounded() {
+    assertBudget("recurParallel1(Object, int, Th3Function)", RECUR_PARALLEL_BUDGET, () ->
+      recurParallel1(3, 0, (depth, v, fork) -> v > 0 ? fork.apply(v - 1) : v)
+    );
+    assertBudget("recurParallel1(Object, int, ForkJoinPool, Th3Function)", RECUR_PARALLEL_BUDGET, () ->
+      recurParallel1(3, 0, POOL, (depth, v, fork) -> v > 0 ? fork.apply(v - 1) : v)
+    );
+  }
+
+  @Test
+  void lazyMethodsAllocationIsBounded() {
+    assertBudget("lazy(ThSupplier)", LAZY_BUDGET, () ->
+      lazy(() -> VALUE1).get()
+    );
+    assertBudget("lazy(Object, ThSupplier)", LAZY_BUDGET, () ->
+      lazy(ACC, () -> VALUE1).get()
+    );
+    assertBudget("lazyLock(Lock, ThSupplier)", LAZY_BUDGET, () ->
+      lazyLock(LOCK, () -> VALUE1).get()
+    );
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      assertBudget("lazy(ThreadSafetyMode, ThSupplier) " + mode, LAZY_BUDGET, () ->
+        lazy(mode, () -> VALUE1).get()
+      );
+      assertBudget("lazyResettable(ThreadSafetyMode, ThSupplier) " + mode, LAZY_BUDGET, () ->
+        lazyResettable(mode, () -> VALUE1).get()
+      );
+      assertBudget("lazyInt(ThreadSafetyMode, ThSupplierInt) " + mode, LAZY_BUDGET, () ->
+        lazyInt(mode, () -> 1).getAsInt()
+      );
+      assertBudget("lazyLong(ThreadSafetyMode, ThSupplierLong) " + mode, LAZY_BUDGET, () ->
+        lazyLong(mode, () -> 1L).getAsLong()
+      );
+      assertBudget("lazyDouble(ThreadSafetyMode, ThSupplierDouble) " + mode, LAZY_BUDGET, () ->
+        lazyDouble(mode, () -> 1.0).getAsDouble()
+      );
+    }
+    assertBudget("lazy(FailurePolicy, ThSupplier)", LAZY_BUDGET, () ->
+      lazy(FAILURE_POLICY, () -> VALUE1).get()
+    );
+    assertBudget("lazy(Duration, ThSupplier)", LAZY_BUDGET, () ->
+      lazy(EXPIRE_AFTER_WRITE, () -> VALUE1).get()
+    );
+    assertBudget("lazy(Duration, Duration, Executor, ThSupplier)", LAZY_BUDGET, () ->
+      lazy(EXPIRE_AFTER_WRITE, REFRESH_AFTER_WRITE, EXECUTOR, () -> VALUE1).get()
+    );
+    assertBudget("lazyOf(Object)", LAZY_BUDGET, () ->
+      lazyOf(VALUE1).get()
+    );
+    assertBudget("lazyAsync(ThSupplier, Executor)", ASYNC_LAZY_BUDGET, () ->
+      lazyAsync(() -> VALUE1, EXECUTOR).get()
+    );
+    assertBudget("lazySoft(ThSupplier)", LAZY_BUDGET, () ->
+      lazySoft(() -> VALUE1).get()
+    );
+    assertBudget("lazyResettable(ThSupplier)", LAZY_BUDGET, () ->
+      lazyResettable(() -> VALUE1).get()
+    );
+    assertBudget("lazyThreadLocal(ThSupplier)", THREAD_LOCAL_LAZY_BUDGET, () ->
+      lazyThreadLocal(() -> VALUE1).get()
+    );
+    assertBudget("lazyGroup()", LAZY_GROUP_BUDGET, () ->
+      lazyGroup().add("name", LAZY, new String[0]).initialize(EXECUTOR)
+    );
+    assertBudget("lazyInt(ThSupplierInt)", LAZY_BUDGET, () ->
+      lazyInt(() -> 1).getAsInt()
+    );
+    assertBudget("lazyLong(ThSupplierLong)", LAZY_BUDGET, () ->
+      lazyLong(() -> 1L).getAsLong()
+    );
+    assertBudget("lazyDouble(ThSupplierDouble)", LAZY_BUDGET, () ->
+      lazyDouble(() -> 1.0).getAsDouble()
+    );
+  }
+
+  @Test
+  void lazyReadsDoNotAllocate() {
+    final List<Lazy<Object>> lazies = new ArrayList<>(Arrays.<Lazy<Object>>asList(
+      lazy(() -> VALUE1),
+      lazy(ACC, () -> VALUE1),
+      lazyLock(LOCK, () -> VALUE1),
+      lazy(FAILURE_POLICY, () -> VALUE1),
+      lazy(EXPIRE_AFTER_WRITE, () -> VALUE1),
+      lazy(EXPIRE_AFTER_WRITE, REFRESH_AFTER_WRITE, EXECUTOR, () -> VALUE1),
+      lazyOf(VALUE1),
+      lazyAsync(() -> VALUE1, EXECUTOR),
+      lazySoft(() -> VALUE1),
+      lazyResettable(() -> VALUE1),
+      lazyThreadLocal(() -> VALUE1)
+    ));
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      lazies.add(lazy(mode, () -> VALUE1));
+      lazies.add(lazyResettable(mode, () -> VALUE1));
+    }
+    for (final Lazy<Object> lazy : lazies) {
+      lazy.get();
+      assertBudget("Lazy.get() " + lazy.getClass().getSimpleName(), ZERO_BUDGET, lazy::get);
+    }
+  }
+
+  @Test
+  void memoizeMethodsAllocationIsBounded() {
+    final MemoizedFunction<Object, Object> memoized1 = memoize(v -> v, 4);
+    final Memoized2Function<Object, Object, Object> memoized2 = memoize((v1, v2) -> v2, 4);
+    final Memoized3Function<Object, Object, Object, Object> memoized3 = memoize((v1, v2, v3) -> v3, 4);
+    assertBudget("memoize(ThFunction, int)", MEMOIZE_BUDGET, () ->
+      memoize(v -> v, 4).apply(VALUE1)
+    );
+    assertBudget("memoize(Th2Function, int)", MEMOIZE_BUDGET, () ->
+      memoize((v1, v2) -> v2, 4).apply(VALUE1, VALUE2)
+    );
+    assertBudget("memoize(Th3Function, int)", MEMOIZE_BUDGET, () ->
+      memoize((v1, v2, v3) -> v3, 4).apply(VALUE1, VALUE2, VALUE3)
+    );
+    memoized1.apply(VALUE1);
+    memoized2.apply(VALUE1, VALUE2);
+    memoized3.apply(VALUE1, VALUE2, VALUE3);
+    assertBudget("MemoizedFunction.apply(Object)", ZERO_BUDGET, () ->
+      memoized1.apply(VALUE1)
+    );
+    assertBudget("Memoized2Function.apply(Object, Object)", KEY_BUDGET, () ->
+      memoized2.apply(VALUE1, VALUE2)
+    );
+    assertBudget("Memoized3Function.apply(Object, Object, Object)", KEY_BUDGET, () ->
+      memoized3.apply(VALUE1, VALUE2, VALUE3)
+    );
+  }
+
+  @Test
+  void primitiveLazyReadsDoNotAllocate() {
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      final LazyInt lazyInt = lazyInt(mode, () -> 1);
+      final LazyLong lazyLong = lazyLong(mode, () -> 1L);
+      final LazyDouble lazyDouble = lazyDouble(mode, () -> 1.0);
+      assertBudget("LazyInt.getAsInt() " + mode, ZERO_BUDGET, lazyInt::getAsInt);
+      assertBudget("LazyLong.getAsLong() " + mode, ZERO_BUDGET, lazyLong::getAsLong);
+      assertBudget("LazyDouble.getAsDouble() " + mode, ZERO_BUDGET, lazyDouble::getAsDouble);
+    }
+  }
+
+  @Test
+  void primitiveRecurMethodsDoNotBox() {
+    assertBudget("recurInt(int, Th2FunctionIntObjToInt)", RECUR_BUDGET, () ->
+      recurInt(1000, (value, self) -> value == 0 ? 0 : value + self.applyAsInt(value - 1))
+    );
+    assertBudget("recurLong(long, Th2FunctionLongObjToLong)", RECUR_BUDGET, () ->
+      recurLong(1000L, (value, self) -> value == 0L ? 0L : value + self.applyAsLong(value - 1L))
+    );
+  }
+
+  private static void assertBudget(final String method,
+                                   final long budget,
+                                   final Runnable call) {
+    final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean,
+      "com.sun.management.ThreadMXBean is not available");
+    final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+    assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported(),
+      "thread allocated memory measurement is not supported");
+    allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+    final long threadId = Thread.currentThread().getId();
+    for (int idx = 0; idx < WARMUP_CALLS; idx++) {
+      call.run();
+    }
+    final long before = allocationMXBean.getThreadAllocatedBytes(threadId);
+    for (int idx = 0; idx < MEASURED_CALLS; idx++) {
+      call.run();
+    }
+    final long after = allocationMXBean.getThreadAllocatedBytes(threadId);
+    assertThat(
+      after - before
+    ).as("allocated bytes by %d %s calls", MEASURED_CALLS, method)
+      .isLessThanOrEqualTo(budget * MEASURED_CALLS + ONE_OFF_ALLOWANCE);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.function.ThSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.plugatar.jkscope.JKScope.lazy;
+import static com.plugatar.jkscope.JKScope.lazyGroup;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link JKScope#lazyGroup()} method.
+ */
+@SuppressWarnings("unchecked")
+final class LazyGroupTest {
+
+  @Test
+  void addMethodThrowsNPEForNullArgs() {
+    final LazyGroup group = lazyGroup();
+    final Lazy<Object> lazy = lazy(() -> new Object());
+
+    assertThatThrownBy(() ->
+      group.add(null, lazy)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      group.add("a", null)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      group.add("a", lazy, (String[]) null)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      group.add("a", lazy, "b", null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void addMethodThrowsIAEForDuplicateName() {
+    final LazyGroup group = lazyGroup().add("a", lazy(() -> new Object()));
+
+    assertThatThrownBy(() ->
+      group.add("a", lazy(() -> new Object()))
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void initializeMethodThrowsNPEForNullExecutorArg() {
+    final LazyGroup group = lazyGroup();
+
+    assertThatThrownBy(() ->
+      group.initialize(null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void initializeMethodThrowsIAEForMissingDependency() {
+    final LazyGroup group = lazyGroup().add("a", lazy(() -> new Object()), "b");
+
+    assertThatThrownBy(() ->
+      group.initialize(Runnable::run)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void initializeMethodThrowsISEForDependencyCycle() {
+    final LazyGroup group = lazyGroup()
+      .add("a", lazy(() -> new Object()), "c")
+      .add("b", lazy(() -> new Object()), "a")
+      .add("c", lazy(() -> new Object()), "b");
+
+    assertThatThrownBy(() ->
+      group.initialize(Runnable::run)
+    ).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void initializeMethodInitializesNodesInTopologicalOrder() {
+    final List<String> initOrder = new ArrayList<>();
+    final Lazy<Object> cache = lazy(() -> initOrder.add("cache"));
+    final Lazy<Object> client = lazy(() -> initOrder.add("client"));
+    final Lazy<Object> config = lazy(() -> initOrder.add("config"));
+    final Map<String, Duration> initTimes = lazyGroup()
+      .add("cache", cache, "config", "client")
+      .add("client", client, "config")
+      .add("config", config)
+      .initialize(Runnable::run);
+
+    assertThat(
+      initOrder
+    ).containsExactly("config", "client", "cache");
+    assertThat(
+      initTimes.keySet()
+    ).containsExactly("config", "client", "cache");
+    assertThat(
+      cache.isInitialized() && client.isInitialized() && config.isInitialized()
+    ).isTrue();
+  }
+
+  @Test
+  void initializeMethodInitializesIndependentNodesInParallel() throws Exception {
+    final CountDownLatch bothStarted = new CountDownLatch(2);
+    final ThSupplier<Object, InterruptedException> initializer = () -> {
+      bothStarted.countDown();
+      return bothStarted.await(10, TimeUnit.SECONDS);
+    };
+    final Lazy<Object> lazy1 = lazy(initializer);
+    final Lazy<Object> lazy2 = lazy(initializer);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      lazyGroup()
+        .add("lazy1", lazy1)
+        .add("lazy2", lazy2)
+        .initialize(executor);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(
+      lazy1.get()
+    ).isEqualTo(true);
+    assertThat(
+      lazy2.get()
+    ).isEqualTo(true);
+  }
+
+  @Test
+  void initializeMethodThrowsInitializerExceptionAndSkipsDependentNodes() {
+    final RuntimeException exception = new RuntimeException();
+    final ThSupplier<Object, Error> dependentInitializer = mock(ThSupplier.class);
+    final Lazy<Object> independent = lazy(() -> new Object());
+    final LazyGroup group = lazyGroup()
+      .add("failing", lazy(() -> {
+        throw exception;
+      }))
+      .add("dependent", lazy(dependentInitializer), "failing")
+      .add("independent", independent);
+
+    assertThatThrownBy(() ->
+      group.initialize(Runnable::run)
+    ).isSameAs(exception);
+    verify(dependentInitializer, never()).get();
+    assertThat(
+      independent.isInitialized()
+    ).isTrue();
+  }
+}
@@ -15,15 +15,52 @@
  */
 package com.plugatar.jkscope;
 
+import com.plugatar.jkscope.function.Th2Function;
+import com.plugatar.jkscope.function.ThFunction;
 import com.plugatar.jkscope.function.ThSupplier;
+import com.plugatar.jkscope.function.ThSupplierDouble;
+import com.plugatar.jkscope.function.ThSupplierInt;
+import com.plugatar.jkscope.function.ThSupplierLong;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import static com.plugatar.jkscope.JKScope.lazy;
+import static com.plugatar.jkscope.JKScope.lazyAsync;
+import static com.plugatar.jkscope.JKScope.lazyDouble;
+import static com.plugatar.jkscope.JKScope.lazyInt;
+import static com.plugatar.jkscope.JKScope.lazyLock;
+import static com.plugatar.jkscope.JKScope.lazyLong;
 import static com.plugatar.jkscope.JKScope.lazyOf;
+import static com.plugatar.jkscope.JKScope.lazyResettable;
+import static com.plugatar.jkscope.JKScope.lazySoft;
+import static com.plugatar.jkscope.JKScope.lazyThreadLocal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -32,8 +69,27 @@ import static org.mockito.Mockito.verify;
  * <ul>
  * <li>{@link JKScope#lazy(ThSupplier)}</li>
  * <li>{@link JKScope#lazy(Object, ThSupplier)}</li>
+ * <li>{@link JKScope#lazyLock(Lock, ThSupplier)}</li>
  * <li>{@link JKScope#lazy(Lazy.ThreadSafetyMode, ThSupplier)}</li>
+ * <li>{@link JKScope#lazy(Lazy.FailurePolicy, ThSupplier)}</li>
+ * <li>{@link JKScope#lazy(Duration, ThSupplier)}</li>
+ * <li>{@link JKScope#lazy(Duration, Duration, Executor, ThSupplier)}</li>
  * <li>{@link JKScope#lazyOf(Object)}</li>
+ * <li>{@link Lazy#get(Duration)}</li>
+ * <li>{@link JKScope#lazyThreadLocal(ThSupplier)}</li>
+ * <li>{@link JKScope#lazyInt(ThSupplierInt)}</li>
+ * <li>{@link JKScope#lazyInt(Lazy.ThreadSafetyMode, ThSupplierInt)}</li>
+ * <li>{@link JKScope#lazyLong(ThSupplierLong)}</li>
+ * <li>{@link JKScope#lazyLong(Lazy.ThreadSafetyMode, ThSupplierLong)}</li>
+ * <li>{@link JKScope#lazyDouble(ThSupplierDouble)}</li>
+ * <li>{@link JKScope#lazyDouble(Lazy.ThreadSafetyMode, ThSupplierDouble)}</li>
+ * <li>{@link Lazy#map(ThFunction)}</li>
+ * <li>{@link Lazy#flatMap(ThFunction)}</li>
+ * <li>{@link Lazy#zip(Lazy, Th2Function)}</li>
+ * <li>{@link JKScope#lazyAsync(ThSupplier, Executor)}</li>
+ * <li>{@link JKScope#lazySoft(ThSupplier)}</li>
+ * <li>{@link JKScope#lazyResettable(ThSupplier)}</li>
+ * <li>{@link JKScope#lazyResettable(Lazy.ThreadSafetyMode, ThSupplier)}</li>
  * </ul>
  */
 @SuppressWarnings("unchecked")
@@ -103,6 +159,67 @@ final class LazyTest {
     verify(initializer, times(1)).get();
   }
 
+  @Test
+  void lazyLockMethodThrowsNPEForNullLockArg() {
+    final Lock lock = null;
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+
+    assertThatThrownBy(() ->
+      lazyLock(lock, initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyLockMethodThrowsNPEForNullInitializerArg() {
+    final Lock lock = new ReentrantLock();
+    final ThSupplier<Object, Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazyLock(lock, initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyLockMethod() {
+    final ReentrantLock lock = new ReentrantLock();
+    final Object result = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result).when(initializer).get();
+    final Lazy<Object> lazy = lazyLock(lock, initializer);
+
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    verify(initializer, times(1)).get();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    verify(initializer, times(1)).get();
+    assertThat(
+      lock.isLocked()
+    ).isFalse();
+  }
+
+  @Test
+  void lazyLockMethodHoldsLockDuringInitialization() {
+    final ReentrantLock lock = new ReentrantLock();
+    final Lazy<Boolean> lazy = lazyLock(lock, lock::isHeldByCurrentThread);
+
+    assertThat(
+      lazy.get()
+    ).isEqualTo(true);
+  }
+
+  @Test
+  void lazyMethodWithJUCLockAsObjectSynchronizesOnIt() {
+    final ReentrantLock lock = new ReentrantLock();
+    final Lazy<Boolean> lazy = lazy(lock, () -> Thread.holdsLock(lock) && !lock.isHeldByCurrentThread());
+
+    assertThat(
+      lazy.get()
+    ).isEqualTo(true);
+  }
+
   @Test
   void lazyMethodWithThreadSafetyModeAndSupplierThrowsNPEForNullThreadSafetyModeArg() {
     final Lazy.ThreadSafetyMode threadSafetyMode = null;
@@ -174,6 +291,191 @@ final class LazyTest {
     verify(initializer, times(1)).get();
   }
 
+  @Test
+  void lazyMethodWithThreadSafetyModeAndSupplierSynchronizedModeNullValue() {
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(null).when(initializer).get();
+    final Lazy<Object> lazy = lazy(Lazy.ThreadSafetyMode.SYNCHRONIZED, initializer);
+
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThat(
+      lazy.get()
+    ).isNull();
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+    assertThat(
+      lazy.get()
+    ).isNull();
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazyMethodWithThreadSafetyModeAndSupplierPublicationModeNullValue() {
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(null).when(initializer).get();
+    final Lazy<Object> lazy = lazy(Lazy.ThreadSafetyMode.PUBLICATION, initializer);
+
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThat(
+      lazy.get()
+    ).isNull();
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+    assertThat(
+      lazy.get()
+    ).isNull();
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazyMethodWithExpireAfterWriteAndSupplierThrowsNPEForNullExpireAfterWriteArg() {
+    final Duration expireAfterWrite = null;
+    final ThSupplier<Object, Error> initializer = () -> new Object();
+
+    assertThatThrownBy(() ->
+      lazy(expireAfterWrite, initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyMethodWithExpireAfterWriteAndSupplierThrowsNPEForNullInitializerArg() {
+    final ThSupplier<Object, Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazy(Duration.ofDays(1), initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyMethodWithExpireAfterWriteAndSupplierThrowsIAEForNotPositiveExpireAfterWriteArg() {
+    final ThSupplier<Object, Error> initializer = () -> new Object();
+
+    assertThatThrownBy(() ->
+      lazy(Duration.ZERO, initializer)
+    ).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() ->
+      lazy(Duration.ofSeconds(-1), initializer)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void lazyMethodWithExpireAfterWriteAndSupplierBeforeExpiration() {
+    final Object result = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result).when(initializer).get();
+    final Lazy<Object> lazy = lazy(Duration.ofDays(1), initializer);
+
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazyMethodWithExpireAfterWriteAndSupplierAfterExpiration() {
+    final Object result1 = new Object();
+    final Object result2 = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result1, result2).when(initializer).get();
+    final Lazy<Object> lazy = lazy(Duration.ofNanos(1), initializer);
+
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    assertThat(
+      lazy.get()
+    ).isSameAs(result2);
+    verify(initializer, times(2)).get();
+  }
+
+  @Test
+  void lazyMethodWithRefreshAfterWriteThrowsNPEForNullArgs() {
+    final Duration duration = null;
+    final Executor executor = null;
+    final ThSupplier<Object, Error> initializer = () -> new Object();
+
+    assertThatThrownBy(() ->
+      lazy(duration, Duration.ofHours(1), Runnable::run, initializer)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazy(Duration.ofDays(1), duration, Runnable::run, initializer)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazy(Duration.ofDays(1), Duration.ofHours(1), executor, initializer)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazy(Duration.ofDays(1), Duration.ofHours(1), Runnable::run, (ThSupplier<Object, Error>) null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyMethodWithRefreshAfterWriteThrowsIAEForRefreshAfterWriteNotLessThanExpireAfterWrite() {
+    final ThSupplier<Object, Error> initializer = () -> new Object();
+
+    assertThatThrownBy(() ->
+      lazy(Duration.ofHours(1), Duration.ofHours(1), Runnable::run, initializer)
+    ).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() ->
+      lazy(Duration.ofHours(1), Duration.ZERO, Runnable::run, initializer)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void lazyMethodWithRefreshAfterWriteReturnsStaleValueDuringRefresh() {
+    final Object result1 = new Object();
+    final Object result2 = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result1, result2).when(initializer).get();
+    final Executor executor = mock(Executor.class);
+    final Lazy<Object> lazy = lazy(Duration.ofDays(1), Duration.ofNanos(1), executor, initializer);
+
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    verify(executor, times(1)).execute(any());
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazyMethodWithRefreshAfterWriteRefreshesValue() {
+    final Object result1 = new Object();
+    final Object result2 = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result1, result2).when(initializer).get();
+    final Lazy<Object> lazy = lazy(Duration.ofDays(1), Duration.ofNanos(1), Runnable::run, initializer);
+
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    assertThat(
+      lazy.get()
+    ).isSameAs(result2);
+  }
+
   @Test
   void lazyOfMethod() {
     final Object result = new Object();
@@ -186,4 +488,1038 @@ final class LazyTest {
       lazy.get()
     ).isSameAs(result);
   }
+
+  @Test
+  void lazyAsyncMethodThrowsNPEForNullInitializerArg() {
+    final ThSupplier<Object, Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazyAsync(initializer, Runnable::run)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyAsyncMethodThrowsNPEForNullExecutorArg() {
+    final ThSupplier<Object, Error> initializer = () -> new Object();
+
+    assertThatThrownBy(() ->
+      lazyAsync(initializer, null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyAsyncMethodDoesNotStartInitializationBeforeAccess() {
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    final Executor executor = mock(Executor.class);
+    final AsyncLazy<Object> lazy = lazyAsync(initializer, executor);
+
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    verify(executor, never()).execute(any());
+    verify(initializer, never()).get();
+  }
+
+  @Test
+  void lazyAsyncMethodRunsInitializerOnceOnExecutor() {
+    final Object result = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result).when(initializer).get();
+    final List<Runnable> tasks = new ArrayList<>();
+    final AsyncLazy<Object> lazy = lazyAsync(initializer, tasks::add);
+
+    final CompletableFuture<Object> future1 = lazy.getAsync();
+    final CompletableFuture<Object> future2 = lazy.getAsync();
+    assertThat(
+      future1.isDone()
+    ).isFalse();
+    assertThat(
+      tasks
+    ).hasSize(1);
+    verify(initializer, never()).get();
+
+    tasks.get(0).run();
+    assertThat(
+      future1.join()
+    ).isSameAs(result);
+    assertThat(
+      future2.join()
+    ).isSameAs(result);
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazyAsyncMethodValueIsNotAffectedByReturnedFutureCancellation() {
+    final Object result = new Object();
+    final List<Runnable> tasks = new ArrayList<>();
+    final AsyncLazy<Object> lazy = lazyAsync(() -> result, tasks::add);
+
+    final CompletableFuture<Object> future = lazy.getAsync();
+    future.cancel(false);
+    lazy.getAsync().complete(new Object());
+    tasks.get(0).run();
+    assertThat(
+      future.isCancelled()
+    ).isTrue();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    assertThat(
+      lazy.getAsync().join()
+    ).isSameAs(result);
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+  }
+
+  @Test
+  void lazyAsyncMethodCompletesExceptionallyForInitializerException() {
+    final Throwable throwable = new Throwable();
+    final ThSupplier<Object, Throwable> initializer = () -> {
+      throw throwable;
+    };
+    final AsyncLazy<Object> lazy = lazyAsync(initializer, Runnable::run);
+
+    assertThat(
+      lazy.getAsync().isCompletedExceptionally()
+    ).isTrue();
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThatThrownBy(() ->
+      lazy.get()
+    ).isSameAs(throwable);
+  }
+
+  @Test
+  void lazyAsyncMethodCompletesExceptionallyForRejectedExecution() {
+    final RejectedExecutionException exception = new RejectedExecutionException();
+    final AsyncLazy<Object> lazy = lazyAsync(() -> new Object(), command -> {
+      throw exception;
+    });
+
+    assertThatThrownBy(() ->
+      lazy.get()
+    ).isSameAs(exception);
+  }
+
+  @Test
+  void lazyMethodWithFailurePolicyAndSupplierThrowsNPEForNullFailurePolicyArg() {
+    final Lazy.FailurePolicy failurePolicy = null;
+    final ThSupplier<Object, Error> initializer = () -> new Object();
+
+    assertThatThrownBy(() ->
+      lazy(failurePolicy, initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyMethodWithFailurePolicyAndSupplierThrowsNPEForNullInitializerArg() {
+    final ThSupplier<Object, Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazy(Lazy.FailurePolicy.cacheFailureFor(Duration.ofDays(1)), initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyMethodWithFailurePolicyAndSupplier() {
+    final Object result = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result).when(initializer).get();
+    final Lazy<Object> lazy = lazy(Lazy.FailurePolicy.cacheFailureFor(Duration.ofDays(1)), initializer);
+
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazyMethodWithCacheFailurePolicyAndSupplierCachesFailure() {
+    final RuntimeException exception = new RuntimeException();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doThrow(exception).when(initializer).get();
+    final Lazy<Object> lazy = lazy(Lazy.FailurePolicy.cacheFailureFor(Duration.ofDays(1)), initializer);
+
+    assertThatThrownBy(() ->
+      lazy.get()
+    ).isSameAs(exception);
+    assertThatThrownBy(() ->
+      lazy.get()
+    ).isSameAs(exception);
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazyMethodWithCacheFailurePolicyAndSupplierRetriesAfterDuration() {
+    final Object result = new Object();
+    final AtomicInteger calls = new AtomicInteger();
+    final RuntimeException exception = new RuntimeException();
+    final Lazy<Object> lazy = lazy(Lazy.FailurePolicy.cacheFailureFor(Duration.ofNanos(1)), () -> {
+      if (calls.incrementAndGet() == 1) { throw exception; }
+      return result;
+    });
+
+    assertThatThrownBy(() ->
+      lazy.get()
+    ).isSameAs(exception);
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    assertThat(
+      calls.get()
+    ).isEqualTo(2);
+  }
+
+  @Test
+  void lazyMethodWithBackoffFailurePolicyAndSupplierDelaysRetry() {
+    final RuntimeException exception = new RuntimeException();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doThrow(exception).when(initializer).get();
+    final Lazy<Object> lazy = lazy(
+      Lazy.FailurePolicy.retryWithBackoff(Duration.ofDays(1), Duration.ofDays(2)), initializer
+    );
+
+    assertThatThrownBy(() ->
+      lazy.get()
+    ).isSameAs(exception);
+    assertThatThrownBy(() ->
+      lazy.get()
+    ).isSameAs(exception);
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void failurePolicyRetryWithBackoffDelayGrowsExponentiallyWithJitter() {
+    final Lazy.FailurePolicy failurePolicy =
+      Lazy.FailurePolicy.retryWithBackoff(Duration.ofNanos(100), Duration.ofNanos(1000));
+
+    assertThat(
+      failurePolicy.delayNanos(1)
+    ).isBetween(50L, 100L);
+    assertThat(
+      failurePolicy.delayNanos(2)
+    ).isBetween(100L, 200L);
+    assertThat(
+      failurePolicy.delayNanos(3)
+    ).isBetween(200L, 400L);
+    assertThat(
+      failurePolicy.delayNanos(100)
+    ).isBetween(500L, 1000L);
+  }
+
+  @Test
+  void failurePolicyFactoryMethodsThrowExceptionsForInvalidArgs() {
+    assertThatThrownBy(() ->
+      Lazy.FailurePolicy.cacheFailureFor(null)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      Lazy.FailurePolicy.cacheFailureFor(Duration.ZERO)
+    ).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() ->
+      Lazy.FailurePolicy.retryWithBackoff(Duration.ofSeconds(1), null)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      Lazy.FailurePolicy.retryWithBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1))
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void lazySoftMethodThrowsNPEForNullInitializerArg() {
+    final ThSupplier<Object, Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazySoft(initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazySoftMethod() {
+    final Object result = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result).when(initializer).get();
+    final Lazy<Object> lazy = lazySoft(initializer);
+
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result);
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazySoftMethodNullValue() {
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(null).when(initializer).get();
+    final Lazy<Object> lazy = lazySoft(initializer);
+
+    assertThat(
+      lazy.get()
+    ).isNull();
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+    assertThat(
+      lazy.get()
+    ).isNull();
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void lazySoftMethodRecomputesReclaimedValue() throws Exception {
+    final Object result1 = new Object();
+    final Object result2 = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result1, result2).when(initializer).get();
+    final Lazy<Object> lazy = lazySoft(initializer);
+
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    final Field referenceField = lazy.getClass().getDeclaredField("reference");
+    referenceField.setAccessible(true);
+    ((SoftReference<?>) referenceField.get(lazy)).clear();
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result2);
+    verify(initializer, times(2)).get();
+  }
+
+  @Test
+  void lazyResettableMethodThrowsNPEForNullInitializerArg() {
+    final ThSupplier<Object, Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazyResettable(initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyResettableMethodWithThreadSafetyModeThrowsNPEForNullArgs() {
+    final ThSupplier<Object, Error> initializer = () -> new Object();
+
+    assertThatThrownBy(() ->
+      lazyResettable(null, initializer)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazyResettable(Lazy.ThreadSafetyMode.SYNCHRONIZED, (ThSupplier<Object, Error>) null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyResettableMethodInvalidate() {
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      final Object result1 = new Object();
+      final Object result2 = new Object();
+      final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+      doReturn(result1, result2).when(initializer).get();
+      final ResettableLazy<Object> lazy = lazyResettable(mode, initializer);
+
+      assertThat(
+        lazy.isInitialized()
+      ).isFalse();
+      assertThat(
+        lazy.get()
+      ).isSameAs(result1);
+      assertThat(
+        lazy.get()
+      ).isSameAs(result1);
+      lazy.invalidate();
+      assertThat(
+        lazy.isInitialized()
+      ).isFalse();
+      assertThat(
+        lazy.get()
+      ).isSameAs(result2);
+      assertThat(
+        lazy.isInitialized()
+      ).isTrue();
+      verify(initializer, times(2)).get();
+    }
+  }
+
+  @Test
+  void lazyResettableMethodRefresh() {
+    final Object result1 = new Object();
+    final Object result2 = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(result1, result2).when(initializer).get();
+    final ResettableLazy<Object> lazy = lazyResettable(initializer);
+
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    assertThat(
+      lazy.refresh()
+    ).isSameAs(result2);
+    assertThat(
+      lazy.get()
+    ).isSameAs(result2);
+    verify(initializer, times(2)).get();
+  }
+
+  @Test
+  void lazyResettableMethodReturnsPreviousValueDuringRecomputation() throws Exception {
+    final Object result1 = new Object();
+    final Object result2 = new Object();
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger calls = new AtomicInteger();
+    final ResettableLazy<Object> lazy = lazyResettable(() -> {
+      if (calls.incrementAndGet() == 1) { return result1; }
+      started.countDown();
+      release.await();
+      return result2;
+    });
+    lazy.get();
+    lazy.invalidate();
+    final Thread refresher = new Thread(lazy::get);
+    refresher.start();
+    started.await();
+
+    assertThat(
+      lazy.get()
+    ).isSameAs(result1);
+    release.countDown();
+    refresher.join();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result2);
+  }
+
+  @Test
+  void lazyResettableMethodKeepsStaleValueIfInvalidatedDuringRecomputation() {
+    final Object result1 = new Object();
+    final Object result2 = new Object();
+    final Object result3 = new Object();
+    final AtomicInteger calls = new AtomicInteger();
+    final ResettableLazy<Object>[] holder = new ResettableLazy[1];
+    holder[0] = lazyResettable(() -> {
+      switch (calls.incrementAndGet()) {
+        case 1:
+          return result1;
+        case 2:
+          holder[0].invalidate();
+          return result2;
+        default:
+          return result3;
+      }
+    });
+    final ResettableLazy<Object> lazy = holder[0];
+    lazy.get();
+    lazy.invalidate();
+
+    assertThat(
+      lazy.get()
+    ).isSameAs(result2);
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThat(
+      lazy.get()
+    ).isSameAs(result3);
+  }
+
+  @Test
+  void mapMethodThrowsNPEForNullMapperArg() {
+    final Lazy<Object> lazy = lazy(() -> new Object());
+
+    assertThatThrownBy(() ->
+      lazy.map(null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void mapMethodDoesNotInitializeParent() {
+    final Object value = new Object();
+    final Object result = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(value).when(initializer).get();
+    final ThFunction<Object, Object, Error> mapper = mock(ThFunction.class);
+    doReturn(result).when(mapper).apply(value);
+    final Lazy<Object> lazy = lazy(initializer);
+    final Lazy<Object> mapped = lazy.map(mapper);
+
+    assertThat(
+      lazy.isInitialized()
+    ).isFalse();
+    assertThat(
+      mapped.isInitialized()
+    ).isFalse();
+    verify(initializer, never()).get();
+    assertThat(
+      mapped.get()
+    ).isSameAs(result);
+    assertThat(
+      mapped.get()
+    ).isSameAs(result);
+    verify(initializer, times(1)).get();
+    verify(mapper, times(1)).apply(value);
+  }
+
+  @Test
+  void mapMethodInheritsThreadSafetyMode() {
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      final Lazy<Object> lazy = lazy(mode, () -> new Object());
+
+      assertThat(
+        lazy.map(value -> value).getClass()
+      ).isSameAs(lazy.getClass());
+    }
+  }
+
+  @Test
+  void mapMethodFoldsLazyOfValue() {
+    final Lazy<String> lazy = lazyOf("abc");
+    final Lazy<Integer> mapped = lazy.map(String::length);
+
+    assertThat(
+      mapped.isInitialized()
+    ).isTrue();
+    assertThat(
+      mapped.getClass()
+    ).isSameAs(lazy.getClass());
+    assertThat(
+      mapped.get()
+    ).isEqualTo(3);
+  }
+
+  @Test
+  void mapMethodSnapshotsFirstValueOfResettableParent() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ResettableLazy<Integer> lazy = lazyResettable(calls::incrementAndGet);
+    final Lazy<Integer> mapped = lazy.map(value -> value * 10);
+
+    assertThat(
+      mapped.get()
+    ).isEqualTo(10);
+    lazy.invalidate();
+    assertThat(
+      lazy.get()
+    ).isEqualTo(2);
+    assertThat(
+      mapped.get()
+    ).isEqualTo(10);
+  }
+
+  @Test
+  void flatMapMethodThrowsNPEForNullMapperArg() {
+    final Lazy<Object> lazy = lazy(() -> new Object());
+
+    assertThatThrownBy(() ->
+      lazy.flatMap(null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void flatMapMethod() {
+    final Object value = new Object();
+    final Object result = new Object();
+    final ThSupplier<Object, Error> initializer = mock(ThSupplier.class);
+    doReturn(value).when(initializer).get();
+    final Lazy<Object> lazy = lazy(initializer);
+    final Lazy<Object> flatMapped = lazy.flatMap(v -> lazyOf(v == value ? result : null));
+
+    verify(initializer, never()).get();
+    assertThat(
+      flatMapped.get()
+    ).isSameAs(result);
+    verify(initializer, times(1)).get();
+  }
+
+  @Test
+  void flatMapMethodReturnsMapperResultForLazyOfValue() {
+    final Lazy<Object> inner = lazy(() -> new Object());
+
+    assertThat(
+      lazyOf("abc").flatMap(value -> inner)
+    ).isSameAs(inner);
+  }
+
+  @Test
+  void zipMethodThrowsNPEForNullArgs() {
+    final Lazy<Object> lazy = lazy(() -> new Object());
+
+    assertThatThrownBy(() ->
+      lazy.zip(null, (v1, v2) -> v1)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazy.zip(lazy, null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void zipMethod() {
+    final ThSupplier<String, Error> initializer1 = mock(ThSupplier.class);
+    doReturn("abc").when(initializer1).get();
+    final ThSupplier<String, Error> initializer2 = mock(ThSupplier.class);
+    doReturn("xyz").when(initializer2).get();
+    final Lazy<String> zipped = lazy(initializer1).zip(lazy(initializer2), (v1, v2) -> v1 + v2);
+
+    verify(initializer1, never()).get();
+    verify(initializer2, never()).get();
+    assertThat(
+      zipped.get()
+    ).isEqualTo("abcxyz");
+    verify(initializer1, times(1)).get();
+    verify(initializer2, times(1)).get();
+  }
+
+  @Test
+  void zipMethodFoldsLazyOfValues() {
+    final Lazy<String> zipped = lazyOf("abc").zip(lazyOf("xyz"), (v1, v2) -> v1 + v2);
+
+    assertThat(
+      zipped.isInitialized()
+    ).isTrue();
+    assertThat(
+      zipped.get()
+    ).isEqualTo("abcxyz");
+  }
+
+  @Test
+  void lazyMethodSerializesUninitializedInstanceWithSerializableInitializer() throws Exception {
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      SerializableInitializer.CALLS.set(0);
+      final Lazy<Object> lazy = lazy(mode, new SerializableInitializer());
+
+      final Lazy<Object> copy = serializedCopy(lazy);
+      assertThat(
+        SerializableInitializer.CALLS.get()
+      ).isZero();
+      assertThat(
+        lazy.isInitialized()
+      ).isFalse();
+      assertThat(
+        copy.isInitialized()
+      ).isFalse();
+      assertThat(
+        copy.get()
+      ).isEqualTo("abc");
+      assertThat(
+        SerializableInitializer.CALLS.get()
+      ).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void lazyMethodSerializesInitializedInstanceAsValue() throws Exception {
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      SerializableInitializer.CALLS.set(0);
+      final Lazy<Object> lazy = lazy(mode, new SerializableInitializer());
+      lazy.get();
+
+      final Lazy<Object> copy = serializedCopy(lazy);
+      assertThat(
+        copy.isInitialized()
+      ).isTrue();
+      assertThat(
+        copy.get()
+      ).isEqualTo("abc");
+      assertThat(
+        SerializableInitializer.CALLS.get()
+      ).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void lazyMethodInitializesInstanceWithNotSerializableInitializerBeforeSerialization() throws Exception {
+    final Lazy<Object> lazy = lazy(() -> "abc");
+
+    final Lazy<Object> copy = serializedCopy(lazy);
+    assertThat(
+      lazy.isInitialized()
+    ).isTrue();
+    assertThat(
+      copy.isInitialized()
+    ).isTrue();
+    assertThat(
+      copy.get()
+    ).isEqualTo("abc");
+  }
+
+  private static <T> T serializedCopy(final T obj) throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(obj);
+    }
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  private static final class SerializableInitializer implements ThSupplier<Object, RuntimeException>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final AtomicInteger CALLS = new AtomicInteger();
+
+    @Override
+    public Object get() {
+      CALLS.incrementAndGet();
+      return "abc";
+    }
+  }
+
+  @Test
+  void lazyIntMethodsThrowNPEForNullArgs() {
+    final ThSupplierInt<Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazyInt(initializer)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazyInt(null, () -> 1)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazyInt(Lazy.ThreadSafetyMode.SYNCHRONIZED, initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyIntMethods() {
+    final LazyInt defaultLazy = lazyInt(() -> 5);
+
+    assertThat(
+      defaultLazy.getAsInt()
+    ).isEqualTo(5);
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      final AtomicInteger calls = new AtomicInteger();
+      final LazyInt lazy = lazyInt(mode, () -> calls.incrementAndGet() + 41);
+
+      assertThat(
+        lazy.isInitialized()
+      ).isFalse();
+      assertThat(
+        lazy.getAsInt()
+      ).isEqualTo(42);
+      assertThat(
+        lazy.isInitialized()
+      ).isTrue();
+      assertThat(
+        lazy.getAsInt()
+      ).isEqualTo(42);
+      assertThat(
+        calls.get()
+      ).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void lazyLongMethodsThrowNPEForNullArgs() {
+    final ThSupplierLong<Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazyLong(initializer)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazyLong(null, () -> 1L)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazyLong(Lazy.ThreadSafetyMode.SYNCHRONIZED, initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyLongMethods() {
+    final LazyLong defaultLazy = lazyLong(() -> 5L);
+
+    assertThat(
+      defaultLazy.getAsLong()
+    ).isEqualTo(5L);
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      final AtomicInteger calls = new AtomicInteger();
+      final LazyLong lazy = lazyLong(mode, () -> calls.incrementAndGet() + Long.MAX_VALUE - 1L);
+
+      assertThat(
+        lazy.isInitialized()
+      ).isFalse();
+      assertThat(
+        lazy.getAsLong()
+      ).isEqualTo(Long.MAX_VALUE);
+      assertThat(
+        lazy.isInitialized()
+      ).isTrue();
+      assertThat(
+        lazy.getAsLong()
+      ).isEqualTo(Long.MAX_VALUE);
+      assertThat(
+        calls.get()
+      ).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void lazyDoubleMethodsThrowNPEForNullArgs() {
+    final ThSupplierDouble<Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazyDouble(initializer)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazyDouble(null, () -> 1.0)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      lazyDouble(Lazy.ThreadSafetyMode.SYNCHRONIZED, initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyDoubleMethods() {
+    final LazyDouble defaultLazy = lazyDouble(() -> 0.5);
+
+    assertThat(
+      defaultLazy.getAsDouble()
+    ).isEqualTo(0.5);
+    for (final Lazy.ThreadSafetyMode mode : Lazy.ThreadSafetyMode.values()) {
+      final AtomicInteger calls = new AtomicInteger();
+      final LazyDouble lazy = lazyDouble(mode, () -> calls.incrementAndGet() + 0.5);
+
+      assertThat(
+        lazy.isInitialized()
+      ).isFalse();
+      assertThat(
+        lazy.getAsDouble()
+      ).isEqualTo(1.5);
+      assertThat(
+        lazy.isInitialized()
+      ).isTrue();
+      assertThat(
+        lazy.getAsDouble()
+      ).isEqualTo(1.5);
+      assertThat(
+        calls.get()
+      ).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void lazyIntMethodPublicationModeUsesFirstPublishedValue() throws Exception {
+    final CountDownLatch bothComputed = new CountDownLatch(2);
+    final AtomicInteger calls = new AtomicInteger();
+    final LazyInt lazy = lazyInt(Lazy.ThreadSafetyMode.PUBLICATION, () -> {
+      final int result = calls.incrementAndGet();
+      bothComputed.countDown();
+      bothComputed.await();
+      return result;
+    });
+    final int[] results = new int[2];
+    final Thread thread = new Thread(() -> results[0] = lazy.getAsInt());
+    thread.start();
+    results[1] = lazy.getAsInt();
+    thread.join();
+
+    assertThat(
+      results[0]
+    ).isEqualTo(results[1]);
+    assertThat(
+      lazy.getAsInt()
+    ).isEqualTo(results[0]);
+  }
+
+  @Test
+  void lazyThreadLocalMethodThrowsNPEForNullInitializerArg() {
+    final ThSupplier<Object, Error> initializer = null;
+
+    assertThatThrownBy(() ->
+      lazyThreadLocal(initializer)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void lazyThreadLocalMethod() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Object> lazy = lazyThreadLocal(() -> {
+      calls.incrementAndGet();
+      return new Object();
+    });
+
+    final Object value = lazy.get();
+    assertThat(
+      lazy.get()
+    ).isSameAs(value);
+    final Object[] otherThreadValue = new Object[1];
+    final boolean[] otherThreadInitialized = new boolean[1];
+    final Thread thread = new Thread(() -> {
+      otherThreadInitialized[0] = lazy.isInitialized();
+      otherThreadValue[0] = lazy.get();
+    });
+    thread.start();
+    thread.join();
+    assertThat(
+      otherThreadInitialized[0]
+    ).isFalse();
+    assertThat(
+      otherThreadValue[0]
+    ).isNotSameAs(value);
+    assertThat(
+      calls.get()
+    ).isEqualTo(2);
+  }
+
+  @Test
+  void lazyThreadLocalMethodReusesValuesOfTerminatedThreads() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Object> lazy = lazyThreadLocal(() -> {
+      calls.incrementAndGet();
+      return new Object();
+    });
+    final int threads = 64;
+    for (int idx = 0; idx < threads; idx++) {
+      final Thread thread = new Thread(lazy::get);
+      thread.start();
+      thread.join();
+      System.gc();
+    }
+    assertThat(
+      calls.get()
+    ).isLessThan(threads);
+  }
+
+  @Test
+  void getWithTimeoutMethodThrowsNPEForNullTimeoutArg() {
+    for (final Lazy<Object> lazy : Arrays.asList(
+      lazy(new Object(), () -> new Object()),
+      lazyLock(new ReentrantLock(), () -> new Object()),
+      lazy(Lazy.ThreadSafetyMode.PUBLICATION, () -> new Object())
+    )) {
+      assertThatThrownBy(() ->
+        lazy.get(null)
+      ).isInstanceOf(NullPointerException.class);
+    }
+  }
+
+  @Test
+  void getWithTimeoutMethodInitializesValue() throws Exception {
+    for (final Lazy<Object> lazy : Arrays.<Lazy<Object>>asList(
+      lazy(new Object(), () -> "abc"),
+      lazyLock(new ReentrantLock(), () -> "abc"),
+      lazy(Lazy.ThreadSafetyMode.PUBLICATION, () -> "abc"),
+      lazyOf("abc")
+    )) {
+      assertThat(
+        lazy.get(Duration.ofSeconds(1))
+      ).isEqualTo("abc");
+      assertThat(
+        lazy.get(Duration.ZERO)
+      ).isEqualTo("abc");
+    }
+  }
+
+  @Test
+  void getWithTimeoutMethodThrowsTimeoutExceptionForInitializationInAnotherThread() throws Exception {
+    for (final boolean juc : new boolean[]{false, true}) {
+      final CountDownLatch started = new CountDownLatch(1);
+      final CountDownLatch release = new CountDownLatch(1);
+      final ThSupplier<Object, InterruptedException> initializer = () -> {
+        started.countDown();
+        release.await();
+        return "abc";
+      };
+      final Lazy<Object> lazy = juc ? lazyLock(new ReentrantLock(), initializer) : lazy(new Object(), initializer);
+      final Thread thread = new Thread(lazy::get);
+      thread.start();
+      started.await();
+
+      assertThatThrownBy(() ->
+        lazy.get(Duration.ofMillis(20))
+      ).isInstanceOf(TimeoutException.class);
+      release.countDown();
+      assertThat(
+        lazy.get(Duration.ofSeconds(10))
+      ).isEqualTo("abc");
+      thread.join();
+    }
+  }
+
+  @Test
+  void getWithTimeoutMethodOfLockBasedLaziesThrowsTimeoutExceptionForInitializationInAnotherThread() throws Exception {
+    final List<ThFunction<ThSupplier<Object, InterruptedException>, Lazy<Object>, RuntimeException>> factories =
+      Arrays.asList(
+        initializer -> lazy(Lazy.FailurePolicy.cacheFailureFor(Duration.ofDays(1)), initializer),
+        initializer -> lazy(Duration.ofDays(1), initializer),
+        initializer -> lazySoft(initializer),
+        initializer -> lazyResettable(initializer)
+      );
+    for (final ThFunction<ThSupplier<Object, InterruptedException>, Lazy<Object>, RuntimeException> factory : factories) {
+      final CountDownLatch started = new CountDownLatch(1);
+      final CountDownLatch release = new CountDownLatch(1);
+      final Lazy<Object> lazy = factory.apply(() -> {
+        started.countDown();
+        release.await();
+        return "abc";
+      });
+      final Thread thread = new Thread(lazy::get);
+      thread.start();
+      started.await();
+
+      assertThatThrownBy(() ->
+        lazy.get(Duration.ofMillis(20))
+      ).isInstanceOf(TimeoutException.class);
+      release.countDown();
+      assertThat(
+        lazy.get(Duration.ofSeconds(10))
+      ).isEqualTo("abc");
+      thread.join();
+    }
+  }
+
+  @Test
+  void getWithTimeoutMethodOfAsyncLazyThrowsTimeoutExceptionForUnfinishedInitialization() throws Exception {
+    final Object result = new Object();
+    final List<Runnable> tasks = new ArrayList<>();
+    final AsyncLazy<Object> lazy = lazyAsync(() -> result, tasks::add);
+
+    final long start = System.nanoTime();
+    assertThatThrownBy(() ->
+      lazy.get(Duration.ofMillis(20))
+    ).isInstanceOf(TimeoutException.class);
+    assertThat(
+      System.nanoTime() - start
+    ).isLessThan(TimeUnit.SECONDS.toNanos(1L));
+    tasks.get(0).run();
+    assertThat(
+      lazy.get(Duration.ofSeconds(1))
+    ).isSameAs(result);
+  }
+
+  @Test
+  void getWithTimeoutMethodOfAsyncLazyThrowsInitializerException() {
+    final Throwable throwable = new Throwable();
+    final AsyncLazy<Object> lazy = lazyAsync(() -> {
+      throw throwable;
+    }, Runnable::run);
+
+    assertThatThrownBy(() ->
+      lazy.get(Duration.ofSeconds(1))
+    ).isSameAs(throwable);
+  }
 }
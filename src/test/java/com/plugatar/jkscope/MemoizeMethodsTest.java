@@ -0,0 +1,275 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.function.Th2Function;
+import com.plugatar.jkscope.function.Th3Function;
+import com.plugatar.jkscope.function.ThFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.plugatar.jkscope.JKScope.memoize;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for methods:
+ * <ul>
+ * <li>{@link JKScope#memoize(ThFunction, int)}</li>
+ * <li>{@link JKScope#memoize(Th2Function, int)}</li>
+ * <li>{@link JKScope#memoize(Th3Function, int)}</li>
+ * </ul>
+ */
+@SuppressWarnings("unchecked")
+final class MemoizeMethodsTest {
+
+  @Test
+  void memoizeMethodWithFunctionNullFunctionArg() {
+    final ThFunction<Object, Object, Error> function = null;
+
+    assertThatThrownBy(() ->
+      memoize(function, 10)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void memoizeMethodWithFunctionNotPositiveMaxSizeArg() {
+    final ThFunction<Object, Object, Error> function = arg -> arg;
+
+    assertThatThrownBy(() ->
+      memoize(function, 0)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void memoizeMethodWithFunction() {
+    final Object arg = new Object();
+    final Object result = new Object();
+    final ThFunction<Object, Object, Error> function = mock(ThFunction.class);
+    doReturn(result).when(function).apply(arg);
+    final MemoizedFunction<Object, Object> memoized = memoize(function, 10);
+
+    assertThat(
+      memoized.apply(arg)
+    ).isSameAs(result);
+    assertThat(
+      memoized.apply(arg)
+    ).isSameAs(result);
+    verify(function, times(1)).apply(arg);
+    assertThat(
+      memoized.missCount()
+    ).isEqualTo(1L);
+    assertThat(
+      memoized.hitCount()
+    ).isEqualTo(1L);
+    assertThat(
+      memoized.size()
+    ).isEqualTo(1);
+  }
+
+  @Test
+  void memoizeMethodWithFunctionNullArgAndNullResult() {
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Object, Object> memoized = memoize(arg -> {
+      calls.incrementAndGet();
+      return null;
+    }, 10);
+
+    assertThat(
+      memoized.apply(null)
+    ).isNull();
+    assertThat(
+      memoized.apply(null)
+    ).isNull();
+    assertThat(
+      calls.get()
+    ).isEqualTo(1);
+  }
+
+  @Test
+  void memoizeMethodWithFunctionDoesNotCacheExceptions() {
+    final Object arg = new Object();
+    final RuntimeException throwable = new RuntimeException();
+    final ThFunction<Object, Object, Error> function = mock(ThFunction.class);
+    doThrow(throwable).when(function).apply(arg);
+    final MemoizedFunction<Object, Object> memoized = memoize(function, 10);
+
+    assertThatThrownBy(() ->
+      memoized.apply(arg)
+    ).isSameAs(throwable);
+    assertThatThrownBy(() ->
+      memoized.apply(arg)
+    ).isSameAs(throwable);
+    assertThat(
+      memoized.size()
+    ).isZero();
+  }
+
+  @Test
+  void memoizeMethodWithFunctionIsBounded() {
+    final MemoizedFunction<Integer, Integer> memoized = memoize(arg -> arg * 2, 100);
+
+    for (int idx = 0; idx < 1000; idx++) {
+      assertThat(
+        memoized.apply(idx)
+      ).isEqualTo(idx * 2);
+    }
+    assertThat(
+      memoized.size()
+    ).isEqualTo(100);
+    assertThat(
+      memoized.evictionCount()
+    ).isEqualTo(900L);
+  }
+
+  @Test
+  void memoizeMethodWithFunctionKeepsFrequentlyUsedResultsDuringScan() {
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, Integer> memoized = memoize(arg -> {
+      calls.incrementAndGet();
+      return arg;
+    }, 640);
+
+    for (int idx = 0; idx < 8; idx++) {
+      memoized.apply(-idx - 1);
+      memoized.apply(-idx - 1);
+    }
+    for (int idx = 0; idx < 10000; idx++) {
+      memoized.apply(idx);
+    }
+    final int callsAfterScan = calls.get();
+    for (int idx = 0; idx < 8; idx++) {
+      memoized.apply(-idx - 1);
+    }
+    assertThat(
+      calls.get()
+    ).isEqualTo(callsAfterScan);
+    assertThat(
+      memoized.size()
+    ).isEqualTo(640);
+  }
+
+  @Test
+  void memoizeMethodWithFunctionKeepsResultsHitByOtherThreadsDuringScan() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, Integer> memoized = memoize(arg -> {
+      calls.incrementAndGet();
+      return arg;
+    }, 640);
+
+    for (int idx = 0; idx < 8; idx++) {
+      memoized.apply(-idx - 1);
+    }
+    final List<Thread> threads = new ArrayList<>();
+    for (int threadIdx = 0; threadIdx < 4; threadIdx++) {
+      final Thread thread = new Thread(() -> {
+        for (int idx = 0; idx < 1000; idx++) {
+          memoized.apply(-(idx % 8) - 1);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    for (int idx = 0; idx < 10000; idx++) {
+      memoized.apply(idx);
+    }
+    final int callsAfterScan = calls.get();
+    for (int idx = 0; idx < 8; idx++) {
+      memoized.apply(-idx - 1);
+    }
+    assertThat(
+      calls.get()
+    ).isEqualTo(callsAfterScan);
+    assertThat(
+      memoized.hitCount()
+    ).isEqualTo(4008L);
+  }
+
+  @Test
+  void memoizeMethodWithTh2FunctionNullFunctionArg() {
+    final Th2Function<Object, Object, Object, Error> function = null;
+
+    assertThatThrownBy(() ->
+      memoize(function, 10)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void memoizeMethodWithTh2Function() {
+    final Object arg1 = new Object();
+    final Object arg2 = new Object();
+    final Object result = new Object();
+    final Th2Function<Object, Object, Object, Error> function = mock(Th2Function.class);
+    doReturn(result).when(function).apply(arg1, arg2);
+    final Memoized2Function<Object, Object, Object> memoized = memoize(function, 10);
+
+    assertThat(
+      memoized.apply(arg1, arg2)
+    ).isSameAs(result);
+    assertThat(
+      memoized.apply(arg1, arg2)
+    ).isSameAs(result);
+    verify(function, times(1)).apply(arg1, arg2);
+    assertThat(
+      memoized.apply(arg2, arg1)
+    ).isNull();
+    assertThat(
+      memoized.size()
+    ).isEqualTo(2);
+  }
+
+  @Test
+  void memoizeMethodWithTh3FunctionNullFunctionArg() {
+    final Th3Function<Object, Object, Object, Object, Error> function = null;
+
+    assertThatThrownBy(() ->
+      memoize(function, 10)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void memoizeMethodWithTh3Function() {
+    final Object arg1 = new Object();
+    final Object arg2 = new Object();
+    final Object arg3 = new Object();
+    final Object result = new Object();
+    final Th3Function<Object, Object, Object, Object, Error> function = mock(Th3Function.class);
+    doReturn(result).when(function).apply(arg1, arg2, arg3);
+    final Memoized3Function<Object, Object, Object, Object> memoized = memoize(function, 10);
+
+    assertThat(
+      memoized.apply(arg1, arg2, arg3)
+    ).isSameAs(result);
+    assertThat(
+      memoized.apply(arg1, arg2, arg3)
+    ).isSameAs(result);
+    verify(function, times(1)).apply(arg1, arg2, arg3);
+    assertThat(
+      memoized.hitCount()
+    ).isEqualTo(1L);
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.function.Th2Function;
+import com.plugatar.jkscope.function.Th3Function;
+import com.plugatar.jkscope.function.ThFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.plugatar.jkscope.JKScope.recurMemo1;
+import static com.plugatar.jkscope.JKScope.recurMemo2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for methods:
+ * <ul>
+ * <li>{@link JKScope#recurMemo1(Object, Th2Function)}</li>
+ * <li>{@link JKScope#recurMemo1(Object, int, Th2Function)}</li>
+ * <li>{@link JKScope#recurMemo2(Object, Object, Th3Function)}</li>
+ * <li>{@link JKScope#recurMemo2(Object, Object, int, Th3Function)}</li>
+ * </ul>
+ */
+final class RecurMemoMethodsTest {
+
+  @Test
+  void recurMemo1MethodNullBlockArg() {
+    final Th2Function<Object, ThFunction<Object, Object, ?>, Object, ?> block = null;
+
+    assertThatThrownBy(() ->
+      recurMemo1(new Object(), block)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      recurMemo1(new Object(), 10, block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void recurMemo1MethodNonPositiveMaxSizeArg() {
+    final Th2Function<Object, ThFunction<Object, Object, ?>, Object, ?> block = (value, self) -> value;
+
+    assertThatThrownBy(() ->
+      recurMemo1(new Object(), 0, block)
+    ).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() ->
+      recurMemo1(new Object(), -1, block)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void recurMemo1MethodComputesEachValueOnce() {
+    final Map<Integer, Integer> calls = new HashMap<>();
+    final Th2Function<Integer, ThFunction<Integer, Long, ?>, Long, ?> block = (n, self) -> {
+      calls.merge(n, 1, Integer::sum);
+      if (n < 2) {
+        return (long) n;
+      }
+      return self.apply(n - 1) + self.apply(n - 2);
+    };
+
+    assertThat(
+      recurMemo1(90, block)
+    ).isEqualTo(2880067194370816120L);
+    assertThat(
+      calls
+    ).hasSize(91);
+    assertThat(
+      calls.values().stream().allMatch(count -> count == 1)
+    ).isTrue();
+  }
+
+  @Test
+  void recurMemo1MethodGrowsTable() {
+    final int[] calls = {0};
+    final Th2Function<Integer, ThFunction<Integer, Long, ?>, Long, ?> block = (n, self) -> {
+      calls[0]++;
+      if (n == 0) {
+        return 0L;
+      }
+      return self.apply(n - 1) + (n % 2 == 0 ? self.apply(n / 2) : n);
+    };
+
+    recurMemo1(500, block);
+    assertThat(
+      calls[0]
+    ).isEqualTo(501);
+  }
+
+  @Test
+  void recurMemo1MethodSupportsNullValuesAndResults() {
+    final List<Object> values = new ArrayList<>();
+    final Th2Function<String, ThFunction<String, String, ?>, String, ?> block = (value, self) -> {
+      values.add(value);
+      if (value == null) {
+        return null;
+      }
+      final String first = self.apply(null);
+      final String second = self.apply(null);
+      return first == null && second == null ? value : "";
+    };
+
+    assertThat(
+      recurMemo1("abc", block)
+    ).isEqualTo("abc");
+    assertThat(
+      values
+    ).containsExactly("abc", null);
+  }
+
+  @Test
+  void recurMemo1MethodWithMaxSizeStopsCaching() {
+    final Map<Integer, Integer> calls = new HashMap<>();
+    final Th2Function<Integer, ThFunction<Integer, Long, ?>, Long, ?> block = (n, self) -> {
+      calls.merge(n, 1, Integer::sum);
+      if (n < 2) {
+        return (long) n;
+      }
+      return self.apply(n - 1) + self.apply(n - 2);
+    };
+
+    assertThat(
+      recurMemo1(20, 5, block)
+    ).isEqualTo(6765L);
+    assertThat(
+      calls.get(0) + calls.get(1) + calls.get(2) + calls.get(3) + calls.get(4)
+    ).isEqualTo(5);
+    assertThat(
+      calls.get(10)
+    ).isGreaterThan(1);
+  }
+
+  @Test
+  void recurMemo1MethodDoesNotCacheExceptions() {
+    final int[] calls = {0};
+    final RuntimeException exception = new RuntimeException();
+    final Th2Function<Integer, ThFunction<Integer, Integer, ?>, Integer, ?> block = (n, self) -> {
+      if (n == 0) {
+        calls[0]++;
+        throw exception;
+      }
+      for (int idx = 0; idx < 3; idx++) {
+        try {
+          return self.apply(0);
+        } catch (final RuntimeException ex) {
+          // retry
+        }
+      }
+      return -1;
+    };
+
+    assertThat(
+      recurMemo1(1, block)
+    ).isEqualTo(-1);
+    assertThat(
+      calls[0]
+    ).isEqualTo(3);
+  }
+
+  @Test
+  void recurMemo2MethodNullBlockArg() {
+    final Th3Function<Object, Object, Th2Function<Object, Object, Object, ?>, Object, ?> block = null;
+
+    assertThatThrownBy(() ->
+      recurMemo2(new Object(), new Object(), block)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      recurMemo2(new Object(), new Object(), 10, block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void recurMemo2MethodNonPositiveMaxSizeArg() {
+    final Th3Function<Object, Object, Th2Function<Object, Object, Object, ?>, Object, ?> block =
+      (value1, value2, self) -> value1;
+
+    assertThatThrownBy(() ->
+      recurMemo2(new Object(), new Object(), 0, block)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void recurMemo2MethodComputesEachPairOnce() {
+    final Map<List<Integer>, Integer> calls = new HashMap<>();
+    final Th3Function<Integer, Integer, Th2Function<Integer, Integer, Long, ?>, Long, ?> block = (n, k, self) -> {
+      final List<Integer> key = new ArrayList<>();
+      key.add(n);
+      key.add(k);
+      calls.merge(key, 1, Integer::sum);
+      if (k == 0 || k.equals(n)) {
+        return 1L;
+      }
+      return self.apply(n - 1, k - 1) + self.apply(n - 1, k);
+    };
+
+    assertThat(
+      recurMemo2(60, 30, block)
+    ).isEqualTo(118264581564861424L);
+    assertThat(
+      calls.values().stream().allMatch(count -> count == 1)
+    ).isTrue();
+  }
+
+  @Test
+  void recurMemo2MethodDistinguishesKeyOrder() {
+    final Th3Function<String, String, Th2Function<String, String, String, ?>, String, ?> block =
+      (value1, value2, self) -> {
+        if (value1.isEmpty()) {
+          return value2;
+        }
+        return self.apply("", value1 + value2) + "|" + self.apply("", value2 + value1);
+      };
+
+    assertThat(
+      recurMemo2("a", "b", block)
+    ).isEqualTo("ab|ba");
+  }
+
+  @Test
+  void recurMemo2MethodWithMaxSize() {
+    final Th3Function<Integer, Integer, Th2Function<Integer, Integer, Long, ?>, Long, ?> block = (n, k, self) -> {
+      if (k == 0 || k.equals(n)) {
+        return 1L;
+      }
+      return self.apply(n - 1, k - 1) + self.apply(n - 1, k);
+    };
+
+    assertThat(
+      recurMemo2(20, 10, 3, block)
+    ).isEqualTo(184756L);
+  }
+}
@@ -18,6 +18,8 @@ package com.plugatar.jkscope;
 import com.plugatar.jkscope.JKScope.RecurDepth;
 import com.plugatar.jkscope.function.Th2Consumer;
 import com.plugatar.jkscope.function.Th2Function;
+import com.plugatar.jkscope.function.Th2FunctionIntObjToInt;
+import com.plugatar.jkscope.function.Th2FunctionLongObjToLong;
 import com.plugatar.jkscope.function.Th3Consumer;
 import com.plugatar.jkscope.function.Th3Function;
 import com.plugatar.jkscope.function.Th4Consumer;
@@ -29,16 +31,26 @@ import com.plugatar.jkscope.function.ThConsumer;
 import com.plugatar.jkscope.function.ThFunction;
 import com.plugatar.jkscope.function.ThRunnable;
 import com.plugatar.jkscope.function.ThSupplier;
+import com.plugatar.jkscope.function.ThUnaryOperatorInt;
+import com.plugatar.jkscope.function.ThUnaryOperatorLong;
 import org.junit.jupiter.api.Test;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.plugatar.jkscope.JKScope.recur;
 import static com.plugatar.jkscope.JKScope.recur1;
 import static com.plugatar.jkscope.JKScope.recur2;
 import static com.plugatar.jkscope.JKScope.recur3;
+import static com.plugatar.jkscope.JKScope.recurInt;
+import static com.plugatar.jkscope.JKScope.recurLong;
+import static com.plugatar.jkscope.JKScope.recurOnLargeStack;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -69,9 +81,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  * <li>{@link JKScope#recur2(Object, Object, Th4Function)}</li>
  * <li>{@link JKScope#recur3(Object, Object, Object, Th4Function)}</li>
  * <li>{@link JKScope#recur3(Object, Object, Object, Th5Function)}</li>
+ * <li>{@link JKScope#recurInt(int, Th2FunctionIntObjToInt)}</li>
+ * <li>{@link JKScope#recurLong(long, Th2FunctionLongObjToLong)}</li>
+ * <li>{@link JKScope#recurOnLargeStack(long, ThRunnable)}</li>
+ * <li>{@link JKScope#recurOnLargeStack(long, ThSupplier)}</li>
  * </ul>
  */
 final class RecurMethodsTest {
+  private static final long LARGE_STACK_SIZE = 512L * 1024 * 1024;
 
   @Test
   void recurMethodNullBlockArg() {
@@ -1038,4 +1055,219 @@ final class RecurMethodsTest {
     assertThat(depths).containsExactly(0, 1, 2, 2, 1, 0);
     assertThat(values).containsExactly(value1, value2, value3, value4, value5, value6, value7, value8, value9);
   }
+
+  @Test
+  void recurIntMethodNullBlockArg() {
+    final Th2FunctionIntObjToInt<ThUnaryOperatorInt<?>, ?> block = null;
+
+    assertThatThrownBy(() ->
+      recurInt(1, block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void recurIntMethod() {
+    final List<Integer> values = new ArrayList<>();
+    final Th2FunctionIntObjToInt<ThUnaryOperatorInt<?>, ?> block = (value, self) -> {
+      values.add(value);
+      if (value <= 1) {
+        return 1;
+      }
+      return value * self.applyAsInt(value - 1);
+    };
+
+    assertThat(
+      recurInt(10, block)
+    ).isEqualTo(3628800);
+    assertThat(values).containsExactly(10, 9, 8, 7, 6, 5, 4, 3, 2, 1);
+  }
+
+  @Test
+  void recurIntMethodThrowsBlockException() {
+    final Throwable throwable = new Throwable();
+    final Th2FunctionIntObjToInt<ThUnaryOperatorInt<?>, Throwable> block = (value, self) -> {
+      if (value == 0) {
+        throw throwable;
+      }
+      return self.applyAsInt(value - 1);
+    };
+
+    assertThatThrownBy(() ->
+      recurInt(3, block)
+    ).isSameAs(throwable);
+  }
+
+  @Test
+  void recurLongMethodNullBlockArg() {
+    final Th2FunctionLongObjToLong<ThUnaryOperatorLong<?>, ?> block = null;
+
+    assertThatThrownBy(() ->
+      recurLong(1L, block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void recurLongMethod() {
+    final List<Long> values = new ArrayList<>();
+    final Th2FunctionLongObjToLong<ThUnaryOperatorLong<?>, ?> block = (value, self) -> {
+      values.add(value);
+      if (value <= 1L) {
+        return 1L;
+      }
+      return value * self.applyAsLong(value - 1L);
+    };
+
+    assertThat(
+      recurLong(20L, block)
+    ).isEqualTo(2432902008176640000L);
+    assertThat(values).hasSize(20);
+  }
+
+  @Test
+  void recurLongMethodThrowsBlockException() {
+    final Throwable throwable = new Throwable();
+    final Th2FunctionLongObjToLong<ThUnaryOperatorLong<?>, Throwable> block = (value, self) -> {
+      if (value == 0L) {
+        throw throwable;
+      }
+      return self.applyAsLong(value - 1L);
+    };
+
+    assertThatThrownBy(() ->
+      recurLong(3L, block)
+    ).isSameAs(throwable);
+  }
+
+  @Test
+  void recurOnLargeStackMethodNullBlockArg() {
+    assertThatThrownBy(() ->
+      recurOnLargeStack(LARGE_STACK_SIZE, (ThRunnable<?>) null)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      recurOnLargeStack(LARGE_STACK_SIZE, (ThSupplier<?, ?>) null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void recurOnLargeStackMethodNonPositiveStackSizeArg() {
+    assertThatThrownBy(() ->
+      recurOnLargeStack(0L, () -> { })
+    ).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() ->
+      recurOnLargeStack(-1L, () -> new Object())
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void recurOnLargeStackMethodDeepRecursion() {
+    final Th2FunctionIntObjToInt<ThUnaryOperatorInt<?>, ?> block =
+      (value, self) -> value == 0 ? 0 : 1 + self.applyAsInt(value - 1);
+
+    assertThat(
+      recurOnLargeStack(LARGE_STACK_SIZE, () -> recurInt(1_000_000, block))
+    ).isEqualTo(1_000_000);
+  }
+
+  @Test
+  void recurOnLargeStackMethodRunnable() {
+    final List<Thread> threads = new ArrayList<>();
+
+    recurOnLargeStack(LARGE_STACK_SIZE, () -> {
+      threads.add(Thread.currentThread());
+    });
+    assertThat(threads).hasSize(1);
+    assertThat(threads.get(0)).isNotSameAs(Thread.currentThread());
+    assertThat(threads.get(0).isDaemon()).isTrue();
+  }
+
+  @Test
+  void recurOnLargeStackMethodReusesThreads() {
+    final Set<Thread> threads = new HashSet<>();
+    for (int idx = 0; idx < 20; idx++) {
+      threads.add(recurOnLargeStack(LARGE_STACK_SIZE, Thread::currentThread));
+    }
+
+    assertThat(threads.size()).isLessThanOrEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Test
+  void recurOnLargeStackMethodLimitsThreadsOfRoundedStackSize() throws Exception {
+    final int callers = 4 * Runtime.getRuntime().availableProcessors();
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    final List<Thread> callerThreads = new ArrayList<>();
+    for (int idx = 0; idx < callers; idx++) {
+      final long stackSize = LARGE_STACK_SIZE - idx;
+      final Thread callerThread = new Thread(() -> threads.add(recurOnLargeStack(stackSize, () -> {
+        Thread.sleep(5L);
+        return Thread.currentThread();
+      })));
+      callerThreads.add(callerThread);
+      callerThread.start();
+    }
+    for (final Thread callerThread : callerThreads) {
+      callerThread.join();
+    }
+
+    assertThat(threads.size()).isLessThanOrEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Test
+  void recurOnLargeStackMethodThreadsDoNotKeepCallerContext() throws Exception {
+    final InheritableThreadLocal<Object> threadLocal = new InheritableThreadLocal<>();
+    final ClassLoader callerClassLoader = new URLClassLoader(new URL[0]);
+    final Object[] context = new Object[2];
+    final Thread callerThread = new Thread(() -> {
+      threadLocal.set("caller value");
+      Thread.currentThread().setContextClassLoader(callerClassLoader);
+      recurOnLargeStack(5L * 1024 * 1024, () -> {
+        context[0] = Thread.currentThread().getContextClassLoader();
+        context[1] = threadLocal.get();
+      });
+    });
+    callerThread.start();
+    callerThread.join();
+
+    assertThat(context[0]).isSameAs(ClassLoader.getSystemClassLoader());
+    if (String.valueOf(Platform.class.getResource("Platform.class")).contains("META-INF/versions/")) {
+      assertThat(context[1]).isNull();
+    }
+  }
+
+  @Test
+  void recurOnLargeStackMethodNestedCallUsesCurrentThread() {
+    final Thread[] threads = new Thread[2];
+
+    recurOnLargeStack(LARGE_STACK_SIZE, () -> {
+      threads[0] = Thread.currentThread();
+      recurOnLargeStack(LARGE_STACK_SIZE / 2, () -> {
+        threads[1] = Thread.currentThread();
+      });
+    });
+    assertThat(threads[1]).isSameAs(threads[0]);
+  }
+
+  @Test
+  void recurOnLargeStackMethodThrowsBlockException() {
+    final Throwable throwable = new Throwable();
+    final ThSupplier<Object, Throwable> block = () -> {
+      throw throwable;
+    };
+
+    assertThatThrownBy(() ->
+      recurOnLargeStack(LARGE_STACK_SIZE, block)
+    ).isSameAs(throwable);
+  }
+
+  @Test
+  void recurOnLargeStackMethodKeepsInterruptStatus() {
+    Thread.currentThread().interrupt();
+    try {
+      assertThat(
+        recurOnLargeStack(LARGE_STACK_SIZE, () -> "abc")
+      ).isEqualTo("abc");
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.JKScope.RecurDepth;
+import com.plugatar.jkscope.JKScope.RecurFork;
+import com.plugatar.jkscope.JKScope.RecurJoin;
+import com.plugatar.jkscope.function.Th3Function;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.plugatar.jkscope.JKScope.recurParallel1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for methods:
+ * <ul>
+ * <li>{@link JKScope#recurParallel1(Object, int, Th3Function)}</li>
+ * <li>{@link JKScope#recurParallel1(Object, int, ForkJoinPool, Th3Function)}</li>
+ * </ul>
+ */
+final class RecurParallelMethodsTest {
+
+  @Test
+  void recurParallel1MethodNullArgs() {
+    final Th3Function<RecurDepth, Object, RecurFork<Object, Object>, Object, ?> block = (depth, value, self) -> value;
+
+    assertThatThrownBy(() ->
+      recurParallel1(new Object(), 1, (Th3Function<RecurDepth, Object, RecurFork<Object, Object>, Object, ?>) null)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      recurParallel1(new Object(), 1, null, block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void recurParallel1MethodNegativeForkDepthArg() {
+    final Th3Function<RecurDepth, Object, RecurFork<Object, Object>, Object, ?> block = (depth, value, self) -> value;
+
+    assertThatThrownBy(() ->
+      recurParallel1(new Object(), -1, block)
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void recurParallel1MethodSumsRange() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Set<String> threads = Collections.synchronizedSet(new HashSet<>());
+      final Th3Function<RecurDepth, int[], RecurFork<int[], Long>, Long, ?> block = (depth, range, self) -> {
+        threads.add(Thread.currentThread().getName());
+        final int from = range[0];
+        final int to = range[1];
+        if (to - from <= 16) {
+          long sum = 0;
+          for (int idx = from; idx < to; idx++) {
+            sum += idx;
+          }
+          return sum;
+        }
+        final int mid = (from + to) >>> 1;
+        final RecurJoin<Long> left = self.fork(new int[]{from, mid});
+        final long right = self.apply(new int[]{mid, to});
+        return left.join() + right;
+      };
+
+      assertThat(
+        recurParallel1(new int[]{0, 100_000}, 8, pool, block)
+      ).isEqualTo(100_000L * 99_999L / 2);
+      assertThat(
+        threads.stream().allMatch(name -> name.startsWith("ForkJoinPool-"))
+      ).isTrue();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void recurParallel1MethodPerformsCallsSequentiallyFromForkDepth() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+      final Th3Function<RecurDepth, Integer, RecurFork<Integer, Integer>, Integer, ?> block = (depth, value, self) -> {
+        threads.add(Thread.currentThread());
+        if (value == 0) {
+          return depth.current();
+        }
+        final RecurJoin<Integer> left = self.fork(value - 1);
+        final RecurJoin<Integer> right = self.fork(value - 1);
+        return Math.max(left.join(), right.join());
+      };
+
+      assertThat(
+        recurParallel1(10, 0, pool, block)
+      ).isEqualTo(10);
+      assertThat(
+        threads
+      ).hasSize(1);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void recurParallel1MethodThrowsForkedCallException() {
+    final Throwable throwable = new Throwable();
+    final Th3Function<RecurDepth, Integer, RecurFork<Integer, Integer>, Integer, Throwable> block =
+      (depth, value, self) -> {
+        if (value == 0) {
+          throw throwable;
+        }
+        final RecurJoin<Integer> left = self.fork(value - 1);
+        return left.join() + self.apply(value - 1);
+      };
+
+    assertThatThrownBy(() ->
+      recurParallel1(5, 3, block)
+    ).isSameAs(throwable);
+  }
+
+  @Test
+  void recurParallel1MethodThrowsForkedCallExceptionFromJoin() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (final int forkDepth : new int[]{0, 8}) {
+        final Throwable throwable = new Throwable();
+        final AtomicInteger forkReturns = new AtomicInteger();
+        final Th3Function<RecurDepth, Integer, RecurFork<Integer, Integer>, Integer, Throwable> block =
+          (depth, value, self) -> {
+            if (value == 0) {
+              throw throwable;
+            }
+            final RecurJoin<Integer> left = self.fork(value - 1);
+            forkReturns.incrementAndGet();
+            return left.join();
+          };
+
+        assertThatThrownBy(() ->
+          recurParallel1(1, forkDepth, pool, block)
+        ).isSameAs(throwable);
+        assertThat(
+          forkReturns.get()
+        ).isEqualTo(1);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2024-2025 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.jkscope;
+
+import com.plugatar.jkscope.JKScope.Trampoline;
+import com.plugatar.jkscope.function.Th2Consumer;
+import com.plugatar.jkscope.function.Th2Function;
+import com.plugatar.jkscope.function.Th3Consumer;
+import com.plugatar.jkscope.function.Th3Function;
+import com.plugatar.jkscope.function.ThConsumer;
+import com.plugatar.jkscope.function.ThFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.plugatar.jkscope.JKScope.trampoline1;
+import static com.plugatar.jkscope.JKScope.trampoline2;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for methods:
+ * <ul>
+ * <li>{@link JKScope#trampoline1(Object, Th2Consumer)}</li>
+ * <li>{@link JKScope#trampoline1(Object, Object, Th3Consumer)}</li>
+ * <li>{@link JKScope#trampoline2(Object, Object, Th3Consumer)}</li>
+ * <li>{@link JKScope#trampoline1(Object, Th2Function)}</li>
+ * <li>{@link JKScope#trampoline2(Object, Object, Th3Function)}</li>
+ * <li>{@link Trampoline}</li>
+ * </ul>
+ */
+final class TrampolineMethodsTest {
+  private static final int DEEP = 100_000;
+
+  @Test
+  void trampoline1MethodNullBlockArg() {
+    final Th2Consumer<Object, ThConsumer<Object, ?>, ?> block = null;
+
+    assertThatThrownBy(() ->
+      trampoline1(new Object(), block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void trampoline1MethodKeepsRecursionOrder() {
+    final List<String> values = new ArrayList<>();
+    final Th2Consumer<String, ThConsumer<String, ?>, ?> block = (value, self) -> {
+      values.add(value);
+      if (value.length() < 3) {
+        self.accept(value + "a");
+        self.accept(value + "b");
+      }
+    };
+
+    trampoline1("", block);
+    assertThat(
+      values
+    ).containsExactly("", "a", "aa", "aaa", "aab", "ab", "aba", "abb", "b", "ba", "baa", "bab", "bb", "bba", "bbb");
+  }
+
+  @Test
+  void trampoline1MethodSupportsNullValues() {
+    final List<Object> values = new ArrayList<>();
+    final Th2Consumer<Object, ThConsumer<Object, ?>, ?> block = (value, self) -> {
+      values.add(value);
+      if (values.size() < 3) {
+        self.accept(null);
+      }
+    };
+
+    trampoline1(null, block);
+    assertThat(
+      values
+    ).containsExactly(null, null, null);
+  }
+
+  @Test
+  void trampoline1MethodDeepRecursion() {
+    final int[] counter = {0};
+    final Th2Consumer<Integer, ThConsumer<Integer, ?>, ?> block = (value, self) -> {
+      counter[0]++;
+      if (value < DEEP) {
+        self.accept(value + 1);
+      }
+    };
+
+    trampoline1(0, block);
+    assertThat(
+      counter[0]
+    ).isEqualTo(DEEP + 1);
+  }
+
+  @Test
+  void trampoline1MethodThrowsBlockException() {
+    final Throwable throwable = new Throwable();
+    final Th2Consumer<Integer, ThConsumer<Integer, ?>, Throwable> block = (value, self) -> {
+      if (value == 3) {
+        throw throwable;
+      }
+      self.accept(value + 1);
+    };
+
+    assertThatThrownBy(() ->
+      trampoline1(0, block)
+    ).isSameAs(throwable);
+  }
+
+  @Test
+  void trampoline1MethodWithAccNullBlockArg() {
+    final Th3Consumer<Object, Object, ThConsumer<Object, ?>, ?> block = null;
+
+    assertThatThrownBy(() ->
+      trampoline1(new Object(), new Object(), block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void trampoline1MethodWithAcc() {
+    final List<Integer> acc = new ArrayList<>();
+    final Th3Consumer<Integer, List<Integer>, ThConsumer<Integer, ?>, ?> block = (value, list, self) -> {
+      list.add(value);
+      if (value < DEEP) {
+        self.accept(value + 1);
+      }
+    };
+
+    assertThat(
+      trampoline1(0, acc, block)
+    ).isSameAs(acc);
+    assertThat(
+      acc
+    ).hasSize(DEEP + 1);
+    assertThat(
+      acc.get(DEEP)
+    ).isEqualTo(DEEP);
+  }
+
+  @Test
+  void trampoline2MethodNullBlockArg() {
+    final Th3Consumer<Object, Object, Th2Consumer<Object, Object, ?>, ?> block = null;
+
+    assertThatThrownBy(() ->
+      trampoline2(new Object(), new Object(), block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void trampoline2Method() {
+    final List<String> values = new ArrayList<>();
+    final Th3Consumer<Integer, String, Th2Consumer<Integer, String, ?>, ?> block = (value1, value2, self) -> {
+      values.add(value1 + value2);
+      if (value1 < DEEP) {
+        self.accept(value1 + 1, value1 % 2 == 0 ? "a" : "b");
+      }
+    };
+
+    trampoline2(0, "x", block);
+    assertThat(
+      values
+    ).hasSize(DEEP + 1);
+    assertThat(
+      values.subList(0, 3)
+    ).containsExactly("0x", "1a", "2b");
+  }
+
+  @Test
+  void trampoline1FunctionMethodNullBlockArg() {
+    final Th2Function<Object, ThFunction<Object, Trampoline<Object>, ?>, Trampoline<Object>, ?> block = null;
+
+    assertThatThrownBy(() ->
+      trampoline1(new Object(), block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void trampoline1FunctionMethodDeepNonTailRecursion() {
+    final Th2Function<Integer, ThFunction<Integer, Trampoline<Long>, ?>, Trampoline<Long>, ?> block = (value, self) -> {
+      if (value == 0) {
+        return Trampoline.done(0L);
+      }
+      return self.apply(value - 1).map(sum -> sum + value);
+    };
+
+    assertThat(
+      trampoline1(DEEP, block)
+    ).isEqualTo((long) DEEP * (DEEP + 1) / 2);
+  }
+
+  @Test
+  void trampoline1FunctionMethodDoubleRecursion() {
+    final Th2Function<Integer, ThFunction<Integer, Trampoline<Integer>, ?>, Trampoline<Integer>, ?> block =
+      (value, self) -> {
+        if (value < 2) {
+          return Trampoline.done(value);
+        }
+        return self.apply(value - 1).flatMap(fib1 -> self.apply(value - 2).map(fib2 -> fib1 + fib2));
+      };
+
+    assertThat(
+      trampoline1(20, block)
+    ).isEqualTo(6765);
+  }
+
+  @Test
+  void trampoline1FunctionMethodThrowsBlockException() {
+    final Throwable throwable = new Throwable();
+    final Th2Function<Integer, ThFunction<Integer, Trampoline<Integer>, ?>, Trampoline<Integer>, Throwable> block =
+      (value, self) -> {
+        if (value == 3) {
+          throw throwable;
+        }
+        return self.apply(value + 1);
+      };
+
+    assertThatThrownBy(() ->
+      trampoline1(0, block)
+    ).isSameAs(throwable);
+  }
+
+  @Test
+  void trampoline2FunctionMethodNullBlockArg() {
+    final Th3Function<Object, Object, Th2Function<Object, Object, Trampoline<Object>, ?>, Trampoline<Object>, ?> block =
+      null;
+
+    assertThatThrownBy(() ->
+      trampoline2(new Object(), new Object(), block)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void trampoline2FunctionMethodDeepTailRecursion() {
+    final Th3Function<Integer, Long, Th2Function<Integer, Long, Trampoline<Long>, ?>, Trampoline<Long>, ?> block =
+      (value, acc, self) -> value == 0 ? Trampoline.done(acc) : self.apply(value - 1, acc + value);
+
+    assertThat(
+      trampoline2(DEEP, 0L, block)
+    ).isEqualTo((long) DEEP * (DEEP + 1) / 2);
+  }
+
+  @Test
+  void trampolineMoreMethodNullNextArg() {
+    assertThatThrownBy(() ->
+      Trampoline.more(null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void trampolineMapAndFlatMapMethodsNullFunctionArg() {
+    final Trampoline<Object> trampoline = Trampoline.done(new Object());
+
+    assertThatThrownBy(() ->
+      trampoline.map(null)
+    ).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() ->
+      trampoline.flatMap(null)
+    ).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void trampolineResultMethodDeepFlatMapChain() {
+    Trampoline<Integer> trampoline = Trampoline.done(0);
+    for (int idx = 0; idx < DEEP; idx++) {
+      trampoline = trampoline.flatMap(value -> Trampoline.more(() -> Trampoline.done(value + 1)));
+    }
+
+    assertThat(
+      trampoline.result()
+    ).isEqualTo(DEEP);
+  }
+
+  @Test
+  void trampolineResultMethodNullComputation() {
+    final Trampoline<Object> trampoline = Trampoline.more(() -> null);
+
+    assertThatThrownBy(
+      trampoline::result
+    ).isInstanceOf(NullPointerException.class);
+  }
+}